@@ -0,0 +1,188 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SolverEngine which uses A* Search
+ * Finds the shortest path from the ranger to the cabin
+ * Uses the location of the cabin to explore the most promising blocks first
+ *
+ * Keeps an IndexedMinHeap of packed block indices ordered by
+ * distance travelled plus estimated distance to the cabin
+ * Each step explores the block with the lowest estimate,
+ * and discovers its neighbours in the direction they were reached
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class AStarSolver extends SolverEngine {
+    // Enum of heuristics to estimate the distance to the cabin
+    // All of them never overestimate on a grid where each move costs one
+    public enum Heuristic {
+        // Exact distance on an open grid with four directions of movement
+        MANHATTAN,
+
+        // Distance on an open grid that also allows diagonal movement
+        // Lower than MANHATTAN, so more blocks are explored
+        OCTILE,
+
+        // No estimate at all, the search explores like Dijkstra's algorithm
+        ZERO;
+
+        // Cost of a diagonal move minus the cost of a straight move
+        private static final double DIAGONAL_EXTRA = Math.sqrt(2) - 1;
+
+        // Estimates the distance of a move with the given x and y distances
+        public double estimate(int dx, int dy) {
+            dx = Math.abs(dx);
+            dy = Math.abs(dy);
+
+            return switch (this) {
+                case MANHATTAN -> dx + dy;
+                case OCTILE -> Math.max(dx, dy) + DIAGONAL_EXTRA * Math.min(dx, dy);
+                case ZERO -> 0;
+            };
+        }
+    }
+
+    // Distance of a block that has not been reached yet
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    // Heuristic used to estimate distances to the cabin
+    private final Heuristic heuristic;
+
+    // Coordinates of the cabin, used by the heuristic
+    private final int cabinX;
+    private final int cabinY;
+
+    // Shortest known distance from the start to every block
+    private final int[] distances;
+
+    // Parent of every block on the shortest known path to it
+    // The start is its own parent
+    private final int[] parents;
+
+    // Discovered blocks waiting to be explored, ordered by estimated path length
+    private final IndexedMinHeap openBlocks;
+
+    // Packed index of the block the ranger is on
+    private int rangerIndex;
+
+    // Constructor using the Manhattan heuristic
+    public AStarSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+        this(maze, startIndex, Heuristic.MANHATTAN);
+    }
+
+    // Constructor
+    public AStarSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex, Heuristic heuristic) {
+        // Calls SolverEngine constructor
+        super(maze, startIndex);
+
+        // Heuristic cannot be null
+        if (heuristic == null)
+            throw new IllegalArgumentException("Heuristic cannot be null");
+
+        // Without a cabin there is nothing to estimate the distance to
+        int cabinIndex = maze.getCabinIndex();
+        this.heuristic = cabinIndex == MazeGrid.NO_CABIN ? Heuristic.ZERO : heuristic;
+        cabinX = cabinIndex == MazeGrid.NO_CABIN ? 0 : maze.getX(cabinIndex);
+        cabinY = cabinIndex == MazeGrid.NO_CABIN ? 0 : maze.getY(cabinIndex);
+
+        // No block has been reached yet
+        distances = new int[maze.getCellCount()];
+        parents = new int[maze.getCellCount()];
+        Arrays.fill(distances, UNREACHED);
+
+        // The search starts at the ranger
+        rangerIndex = maze.index(startIndex);
+        distances[rangerIndex] = 0;
+        parents[rangerIndex] = rangerIndex;
+
+        openBlocks = new IndexedMinHeap(maze.getCellCount());
+        open(rangerIndex);
+    }
+
+    @Override
+    protected int nextStep() {
+        // If there are no blocks left to explore, the maze cannot be solved
+        if (openBlocks.isEmpty()) {
+            finish(false);
+            return NO_CHANGE;
+        }
+
+        // Moves the ranger to the most promising block
+        // It faces the direction it came from
+        rangerIndex = openBlocks.poll();
+        currentDirection = directionBetween(parents[rangerIndex], rangerIndex);
+
+        int rangerX = maze.getX(rangerIndex);
+        int rangerY = maze.getY(rangerIndex);
+        visit(rangerIndex);
+
+        // Successfully found the cabin, the search is over
+        if (maze.getState(rangerIndex) == Trail.TraversalState.CABIN) {
+            finish(true);
+            return NO_CHANGE;
+        }
+
+        // Every neighbour is one move further than this block
+        int newDistance = distances[rangerIndex] + 1;
+
+        for (MazePanel.Directions direction : DIRECTIONS) {
+            int newX = rangerX + direction.getMove().x();
+            int newY = rangerY + direction.getMove().y();
+
+            // Makes sure that the new coordinate is valid and not a Tree
+            if (!maze.isTrail(newX, newY)) continue;
+
+            // Skips the neighbour unless this is a shorter path to it
+            // The heuristics never overestimate, so explored blocks never get shorter paths
+            int newIndex = maze.index(newX, newY);
+            if (newDistance >= distances[newIndex]) continue;
+
+            // Saves the shorter path, and shows the direction it was reached in
+            // The cabin keeps its state
+            distances[newIndex] = newDistance;
+            parents[newIndex] = rangerIndex;
+            if (maze.getState(newIndex) != Trail.TraversalState.CABIN)
+                setState(newIndex, discoveredState(direction));
+
+            open(newIndex);
+        }
+
+        // Every neighbour has been discovered, so this block is fully explored
+        setState(rangerIndex, Trail.TraversalState.EXPLORED);
+        return rangerIndex;
+    }
+
+    // Adds a block to the open blocks, or updates its priority
+    private void open(int index) {
+        double estimate = heuristic.estimate(cabinX - maze.getX(index), cabinY - maze.getY(index));
+
+        // Ties are broken by the lower estimate, which prefers blocks closer to the cabin
+        openBlocks.addOrDecrease(index, distances[index] + estimate, estimate);
+    }
+
+    // Follows the parents back from the cabin to the start
+    @Override
+    public List<MazePanel.Coordinate2D> getPath() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return List.of();
+
+        return tracePath(parents, rangerIndex);
+    }
+
+    @Override
+    public int getPathLength() {
+        return getOutcome() == Outcome.PATH_FOUND ? tracePathLength(parents, rangerIndex) : 0;
+    }
+
+    @Override
+    public MazePanel.Coordinate2D getRangerIndex() {
+        return maze.getCoordinate(rangerIndex);
+    }
+
+    // Getter for the heuristic in use
+    public Heuristic getHeuristic() {
+        return heuristic;
+    }
+}
@@ -0,0 +1,93 @@
+import java.util.SplittableRandom;
+
+/**
+ * MazeGenerator which uses a recursive backtracker
+ * Walks from the first cell to a random unvisited neighbour, carving the wall between them,
+ * and backs up to the last cell with unvisited neighbours whenever it gets stuck
+ * Gives mazes with long winding corridors and few dead ends
+ *
+ * Runs in a loop rather than recursing, so there is no limit on the size of the maze
+ * Instead of a stack, every cell remembers the direction back to the cell it was reached from,
+ * which only costs two bits per cell
+ * A cell has been visited once it is a Trail
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class BacktrackerGenerator extends MazeGenerator {
+    // Directions a cell can move in
+    // They go around clockwise, so the opposite of a direction is two along
+    private static final MazePanel.Directions[] DIRECTIONS = MazePanel.Directions.values();
+
+    // Constructor
+    public BacktrackerGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected void generate(MazeGrid maze, SplittableRandom random) {
+        maze.fill(true);
+
+        int cellsX = cellCount(maze.getWidth());
+        int cellsY = cellCount(maze.getHeight());
+
+        // Direction back to the cell each cell was reached from, two bits per cell
+        long[] backDirections = new long[(int) (((long) cellsX * cellsY * 2 + 63) >>> 6)];
+
+        // Directions that lead to unvisited cells, reused for every step
+        int[] choices = new int[DIRECTIONS.length];
+
+        int cellX = 0;
+        int cellY = 0;
+        maze.setTree(cellBlock(maze, cellX, cellY), false);
+
+        while (true) {
+            // Finds every neighbour that is inside the maze and still a Tree
+            int choiceCount = 0;
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                int newX = cellX + DIRECTIONS[i].getMove().x();
+                int newY = cellY + DIRECTIONS[i].getMove().y();
+
+                if (newX >= 0 && newX < cellsX && newY >= 0 && newY < cellsY
+                        && maze.isTree(cellBlock(maze, newX, newY)))
+                    choices[choiceCount++] = i;
+            }
+
+            // Moves to a random unvisited neighbour, carving the wall and the cell
+            if (choiceCount > 0) {
+                int direction = choices[random.nextInt(choiceCount)];
+                MazePanel.Coordinate2D move = DIRECTIONS[direction].getMove();
+
+                maze.setTree(maze.index(cellX * 2 + move.x(), cellY * 2 + move.y()), false);
+                cellX += move.x();
+                cellY += move.y();
+                maze.setTree(cellBlock(maze, cellX, cellY), false);
+
+                setBackDirection(backDirections, cellY * cellsX + cellX, (direction + 2) % DIRECTIONS.length);
+            }
+
+            // Every cell has been visited once the walk backs up to the first cell
+            else if (cellX == 0 && cellY == 0)
+                break;
+
+            // Backs up to the cell this one was reached from
+            else {
+                MazePanel.Coordinate2D move = DIRECTIONS[getBackDirection(backDirections, cellY * cellsX + cellX)].getMove();
+                cellX += move.x();
+                cellY += move.y();
+            }
+        }
+    }
+
+    // Saves the direction back from a cell, as an index into DIRECTIONS
+    private static void setBackDirection(long[] backDirections, int cell, int direction) {
+        long bit = (long) cell * 2;
+        backDirections[(int) (bit >>> 6)] |= (long) direction << bit;
+    }
+
+    // Returns the direction back from a cell
+    private static int getBackDirection(long[] backDirections, int cell) {
+        long bit = (long) cell * 2;
+        return (int) (backDirections[(int) (bit >>> 6)] >>> bit) & 3;
+    }
+}
@@ -0,0 +1,251 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+
+/**
+ * Service that loads and solves many maze files in parallel
+ * Loading is mostly waiting on files, while solving is a short burst of work for the CPU,
+ * so each has its own pool of threads
+ *
+ * Mazes are loaded by a large pool of load threads, then handed to a pool of solve threads
+ * no bigger than the number of processors
+ * Results are passed to a callback, or published to a Flow.Subscriber, as each maze finishes
+ *
+ * Only a fixed number of mazes can be loading, waiting or solving at once
+ * A new file is not started until a result has been delivered, so a slow callback or subscriber
+ * slows down loading instead of filling memory with mazes
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class BatchSolveService implements AutoCloseable {
+    /**
+     * Result of solving one maze file
+     * Error is null if the file was read and solved, otherwise the other values are empty
+     */
+    public record SolveResult(Path file, boolean solvable, int pathLength, int visitedCount,
+                              long parseTime, long solveTime, String error) {
+    }
+
+    // Number of load threads for each solve thread
+    // Loading waits on the disk most of the time, so many more threads are useful
+    private static final int LOAD_THREADS_PER_SOLVE_THREAD = 4;
+
+    // Number of mazes in flight for each solve thread
+    private static final int MAZES_PER_SOLVE_THREAD = 3;
+
+    // Strategy used to solve every maze
+    private final SolverEngine.Strategy strategy;
+
+    // Pools that load and solve the mazes
+    private final ExecutorService loadPool;
+    private final ExecutorService solvePool;
+
+    // Maximum number of mazes in flight at once
+    private final int maxMazesInFlight;
+
+    // Cache of finished searches shared by the solve threads, null if searches are not cached
+    private volatile SolveCache solveCache;
+
+    // Constructor using one solve thread per processor
+    public BatchSolveService(SolverEngine.Strategy strategy) {
+        this(strategy, Runtime.getRuntime().availableProcessors());
+    }
+
+    // Constructor with a number of solve threads
+    public BatchSolveService(SolverEngine.Strategy strategy, int solveThreads) {
+        this(strategy, solveThreads, solveThreads * LOAD_THREADS_PER_SOLVE_THREAD,
+                solveThreads * MAZES_PER_SOLVE_THREAD);
+    }
+
+    // Constructor with every setting
+    // Mazes in flight are being loaded, waiting for a solve thread or being solved
+    public BatchSolveService(SolverEngine.Strategy strategy, int solveThreads, int loadThreads, int maxMazesInFlight) {
+        if (solveThreads <= 0 || loadThreads <= 0 || maxMazesInFlight <= 0)
+            throw new IllegalArgumentException("Thread and maze counts must be positive");
+
+        this.strategy = strategy;
+        this.maxMazesInFlight = maxMazesInFlight;
+
+        loadPool = Executors.newFixedThreadPool(loadThreads);
+        solvePool = Executors.newFixedThreadPool(solveThreads);
+    }
+
+    // Setter for the cache of finished searches
+    // Null to search every maze, which is the default
+    public void setSolveCache(SolveCache solveCache) {
+        this.solveCache = solveCache;
+    }
+
+    // Getter for the cache of finished searches, null if searches are not cached
+    public SolveCache getSolveCache() {
+        return solveCache;
+    }
+
+    // Loads and solves every file, passing each result to the callback as it finishes
+    // The callback is called from the solve and load threads, so it must be thread safe
+    // Returns once every result has been delivered
+    public void solveAll(Iterator<Path> files, Consumer<SolveResult> onResult) throws InterruptedException {
+        Semaphore slots = new Semaphore(maxMazesInFlight);
+
+        // Files are only read from the iterator once a slot is free
+        while (files.hasNext()) {
+            Path file = files.next();
+            slots.acquire();
+
+            try {
+                loadPool.execute(() -> load(file, onResult, slots));
+            }
+
+            // The slot is given back if the service was closed
+            catch (RuntimeException e) {
+                slots.release();
+                throw e;
+            }
+        }
+
+        // Every maze is finished once every slot has been given back
+        slots.acquire(maxMazesInFlight);
+        slots.release(maxMazesInFlight);
+    }
+
+    // Returns a publisher of the results of every file
+    // Each subscriber starts its own run over the files, so an iterable that can only be read once
+    // should only have one subscriber
+    // Results are only produced as fast as the subscriber requests them
+    public Flow.Publisher<SolveResult> publish(Iterable<Path> files) {
+        return subscriber -> {
+            // Submitting blocks once the subscriber has fallen a buffer behind, which stops the solve threads
+            SubmissionPublisher<SolveResult> publisher = new SubmissionPublisher<>(
+                    Executors.newSingleThreadExecutor(), maxMazesInFlight);
+            publisher.subscribe(subscriber);
+
+            Thread feeder = new Thread(() -> {
+                try {
+                    solveAll(files.iterator(), publisher::submit);
+                    publisher.close();
+                }
+
+                catch (InterruptedException | RuntimeException e) {
+                    publisher.closeExceptionally(e);
+                }
+
+                finally {
+                    ((ExecutorService) publisher.getExecutor()).shutdown();
+                }
+            }, "BatchSolveService feeder");
+
+            feeder.setDaemon(true);
+            feeder.start();
+        };
+    }
+
+    // Reads a maze file on a load thread, then hands it to a solve thread
+    // A file that cannot be read gets a result with the error
+    private void load(Path file, Consumer<SolveResult> onResult, Semaphore slots) {
+        boolean handedOff = false;
+
+        try {
+            MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+
+            long startTime = System.nanoTime();
+            fileHandler.readMaze(file.toFile());
+            long parseTime = System.nanoTime() - startTime;
+
+            MazeGrid maze = fileHandler.getMaze();
+            MazePanel.Coordinate2D rangerIndex = fileHandler.getRangerIndex();
+
+            solvePool.execute(() -> solve(file, maze, rangerIndex, parseTime, onResult, slots));
+            handedOff = true;
+        }
+
+        catch (IOException e) {
+            onResult.accept(new SolveResult(file, false, 0, 0, 0, 0, e.getMessage()));
+        }
+
+        // Any other failure still gets a result, named by its exception as it may not have a message
+        catch (RuntimeException e) {
+            onResult.accept(new SolveResult(file, false, 0, 0, 0, 0, e.toString()));
+        }
+
+        // A maze too big for the memory left still gets a result
+        catch (OutOfMemoryError e) {
+            onResult.accept(new SolveResult(file, false, 0, 0, 0, 0, "Out of memory"));
+        }
+
+        // The solve thread gives the slot back once it has delivered its result
+        finally {
+            if (!handedOff)
+                slots.release();
+        }
+    }
+
+    // Solves a loaded maze on a solve thread and delivers the result
+    private void solve(Path file, MazeGrid maze, MazePanel.Coordinate2D rangerIndex, long parseTime,
+                       Consumer<SolveResult> onResult, Semaphore slots) {
+        try {
+            SolveResult result;
+
+            try {
+                long startTime = System.nanoTime();
+
+                // Mazes that have been solved before are not searched again
+                SolveCache cache = solveCache;
+                SolveCache.Key key = cache == null ? null : SolveCache.Key.of(maze, rangerIndex, strategy);
+                SolveCache.Solution solution = key == null ? null : cache.get(key);
+
+                if (solution != null) {
+                    boolean solvable = solution.outcome() == SolverEngine.Outcome.PATH_FOUND;
+                    result = new SolveResult(file, solvable, solution.pathLength(), solution.visitedCount(),
+                            parseTime, System.nanoTime() - startTime, null);
+                }
+
+                else {
+                    // Steps the engine to the end without building the lists of a Result, which only the animation needs
+                    SolverEngine engine = strategy.create(maze, rangerIndex);
+                    while (!engine.isFinished()) {
+                        engine.step();
+                    }
+
+                    long solveTime = System.nanoTime() - startTime;
+
+                    boolean solvable = engine.getOutcome() == SolverEngine.Outcome.PATH_FOUND;
+                    result = new SolveResult(file, solvable, engine.getPathLength(), engine.getVisitedCount(),
+                            parseTime, solveTime, null);
+
+                    // Only builds the solution if it is small enough to cache
+                    if (key != null && cache.fits(SolveCache.Solution.estimateBytes(engine)))
+                        cache.put(key, SolveCache.Solution.of(engine));
+                }
+            }
+
+            catch (OutOfMemoryError e) {
+                result = new SolveResult(file, false, 0, 0, parseTime, 0, "Out of memory");
+            }
+
+            // A failing engine or cache still gets a result, so no file is left out
+            catch (RuntimeException e) {
+                result = new SolveResult(file, false, 0, 0, parseTime, 0, e.toString());
+            }
+
+            onResult.accept(result);
+        }
+
+        finally {
+            slots.release();
+        }
+    }
+
+    // Stops both pools once the mazes already started are finished
+    @Override
+    public void close() {
+        loadPool.shutdown();
+        solvePool.shutdown();
+    }
+}
@@ -0,0 +1,171 @@
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Headless command line solver for many maze files at once
+ * Reads every maze file in a directory, or every file matching a glob,
+ * solves it with a search strategy and prints one CSV or JSON line per maze
+ *
+ * Files are loaded and solved in parallel by a BatchSolveService
+ * Mazes that appear more than once are only searched once, the rest come from a SolveCache
+ * Only a few files more than the number of threads are in flight at any time,
+ * so memory is bounded by the size of the mazes being solved, not the number of files
+ * Lines are printed in the order the mazes finish
+ *
+ * Usage: java BatchSolver directory|glob [strategy] [csv|json] [threads]
+ * For example: java BatchSolver "mazes/**.txt" A_STAR json 8
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class BatchSolver {
+    // Default settings when no arguments are given
+    private static final SolverEngine.Strategy DEFAULT_STRATEGY = SolverEngine.Strategy.A_STAR;
+    private static final String DEFAULT_FORMAT = "csv";
+
+    // Extensions of the files read from a directory
+    private static final String TEXT_EXTENSION = ".txt";
+
+    // Header of the CSV output
+    private static final String CSV_HEADER = "file,solvable,path_length,visited,parse_ms,solve_ms,error";
+
+    // Runs the batch
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: java BatchSolver directory|glob [strategy] [csv|json] [threads]");
+            System.exit(2);
+        }
+
+        // Reads the settings, using the defaults for any that are missing
+        SolverEngine.Strategy strategy = DEFAULT_STRATEGY;
+        if (args.length > 1) {
+            try {
+                strategy = SolverEngine.Strategy.valueOf(args[1].toUpperCase(Locale.ROOT));
+            }
+
+            // Lets the user know which strategies exist
+            catch (IllegalArgumentException e) {
+                System.err.println("Unknown strategy, expected one of " + Arrays.toString(SolverEngine.Strategy.values()));
+                System.exit(2);
+            }
+        }
+
+        boolean json = (args.length > 2 ? args[2] : DEFAULT_FORMAT).equalsIgnoreCase("json");
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        if (!json)
+            System.out.println(CSV_HEADER);
+
+        // Mazes that appear more than once in the batch are only searched once
+        SolveCache solveCache = new SolveCache();
+
+        AtomicInteger mazeCount = new AtomicInteger();
+        long startTime = System.nanoTime();
+
+        // Files are listed lazily, and the service only reads the next one once a maze has finished
+        try (Stream<Path> files = findMazeFiles(args[0]);
+             BatchSolveService service = new BatchSolveService(strategy, threads)) {
+            service.setSolveCache(solveCache);
+            service.solveAll(files.iterator(), result -> {
+                mazeCount.incrementAndGet();
+
+                // Lines from different threads are printed whole
+                System.out.println(format(json, result));
+            });
+        }
+
+        System.err.printf("Processed %d maze files in %.2f s with %d threads, %d cache hits and %d misses%n",
+                mazeCount.get(), (System.nanoTime() - startTime) / 1e9, threads,
+                solveCache.getHits(), solveCache.getMisses());
+    }
+
+    // Formats one result as a line of CSV or JSON
+    // Solvable is left empty if the file could not be solved
+    private static String format(boolean json, BatchSolveService.SolveResult result) {
+        String file = result.file().toString();
+        String solvable = result.error() == null ? String.valueOf(result.solvable()) : null;
+
+        if (json) {
+            return String.format(Locale.ROOT,
+                    "{\"file\":%s,\"solvable\":%s,\"path_length\":%d,\"visited\":%d,\"parse_ms\":%.3f,\"solve_ms\":%.3f,\"error\":%s}",
+                    jsonString(file), solvable, result.pathLength(), result.visitedCount(),
+                    result.parseTime() / 1e6, result.solveTime() / 1e6, jsonString(result.error()));
+        }
+
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%.3f,%.3f,%s",
+                csvField(file), solvable == null ? "" : solvable, result.pathLength(), result.visitedCount(),
+                result.parseTime() / 1e6, result.solveTime() / 1e6, csvField(result.error()));
+    }
+
+    // Returns a value as a JSON string, or null
+    private static String jsonString(String value) {
+        if (value == null)
+            return "null";
+
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < ' ')
+                        builder.append(String.format("\\u%04x", (int) c));
+
+                    else builder.append(c);
+                }
+            }
+        }
+
+        return builder.append('"').toString();
+    }
+
+    // Returns a value as a CSV field, quoted if it needs to be
+    private static String csvField(String value) {
+        if (value == null)
+            return "";
+
+        if (value.contains(",") || value.contains("\"") || value.contains("\n"))
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+
+        return value;
+    }
+
+    // Returns a lazy stream of the maze files in a directory or matching a glob
+    // Directories give every .txt and binary maze file directly inside them
+    private static Stream<Path> findMazeFiles(String location) throws IOException {
+        Path path = Paths.get(location);
+
+        if (Files.isDirectory(path)) {
+            return Files.list(path)
+                    .filter(Files::isRegularFile)
+                    .filter(file -> file.toString().endsWith(TEXT_EXTENSION) ||
+                            file.toString().endsWith(MazeFileHandler.BINARY_EXTENSION));
+        }
+
+        // Walks from the deepest folder before the first part with a glob character
+        Path base = path.isAbsolute() ? path.getRoot() : Paths.get("");
+        for (Path part : path) {
+            if (part.toString().matches(".*[*?\\[{].*")) break;
+            base = base.resolve(part);
+        }
+
+        // The pattern matches the whole path, so it is made relative to the same place as the walked files
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + path);
+        Path start = base.toString().isEmpty() ? Paths.get(".") : base;
+
+        return Files.walk(start)
+                .filter(Files::isRegularFile)
+                .filter(file -> matcher.matches(start.toString().equals(".") ? start.relativize(file) : file));
+    }
+}
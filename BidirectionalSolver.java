@@ -0,0 +1,188 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SolverEngine which uses Bidirectional Breadth First Search
+ * Searches outwards from both the ranger and the cabin until the two searches meet
+ * Always finds the shortest path, while only searching about half as far from each end
+ *
+ * Each side keeps its own queue of packed block indices
+ * A whole layer of one side is explored before switching,
+ * and the side with the smaller queue goes next
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class BidirectionalSolver extends SolverEngine {
+    // Side of the search that discovered each block
+    private static final byte NO_SIDE = 0;
+    private static final byte RANGER_SIDE = 1;
+    private static final byte CABIN_SIDE = 2;
+
+    // Side that discovered every block
+    private final byte[] sides;
+
+    // Parent of every discovered block, towards the ranger or cabin depending on its side
+    // The ranger and cabin are their own parents
+    private final int[] parents;
+
+    // Queues of discovered blocks waiting to be explored for each side
+    private final IntQueue rangerQueue;
+    private final IntQueue cabinQueue;
+
+    // Side currently exploring and the number of blocks left in its layer
+    private byte currentSide;
+    private int layerRemaining;
+
+    // Packed index of the block being explored
+    private int rangerIndex;
+
+    // Blocks on either side of the meeting point, once the searches meet
+    private int rangerSideMeeting;
+    private int cabinSideMeeting;
+
+    // Constructor
+    public BidirectionalSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+        // Calls SolverEngine constructor
+        super(maze, startIndex);
+
+        sides = new byte[maze.getCellCount()];
+        parents = new int[maze.getCellCount()];
+        rangerQueue = new IntQueue();
+        cabinQueue = new IntQueue();
+
+        // The ranger side starts at the ranger
+        rangerIndex = maze.index(startIndex);
+        sides[rangerIndex] = RANGER_SIDE;
+        parents[rangerIndex] = rangerIndex;
+        rangerQueue.add(rangerIndex);
+
+        // The cabin side starts at the cabin, if there is one
+        int cabinIndex = maze.getCabinIndex();
+        if (cabinIndex != MazeGrid.NO_CABIN && cabinIndex != rangerIndex) {
+            sides[cabinIndex] = CABIN_SIDE;
+            parents[cabinIndex] = cabinIndex;
+            cabinQueue.add(cabinIndex);
+        }
+
+        currentSide = RANGER_SIDE;
+        layerRemaining = 0;
+    }
+
+    @Override
+    protected int nextStep() {
+        // The ranger starting on the cabin is already solved
+        if (maze.getState(maze.index(startIndex)) == Trail.TraversalState.CABIN) {
+            visit(maze.index(startIndex));
+            rangerSideMeeting = cabinSideMeeting = maze.index(startIndex);
+            finish(true);
+            return NO_CHANGE;
+        }
+
+        // If either side runs out of blocks, the two searches can never meet
+        if (rangerQueue.isEmpty() || cabinQueue.isEmpty()) {
+            finish(false);
+            return NO_CHANGE;
+        }
+
+        // Once a layer is finished, the side with the smaller queue explores its next layer
+        if (layerRemaining == 0) {
+            currentSide = rangerQueue.size() <= cabinQueue.size() ? RANGER_SIDE : CABIN_SIDE;
+            layerRemaining = queueOf(currentSide).size();
+        }
+
+        // Moves the ranger to the next block of the layer
+        // It faces the direction it came from
+        rangerIndex = queueOf(currentSide).poll();
+        layerRemaining--;
+        currentDirection = directionBetween(parents[rangerIndex], rangerIndex);
+
+        int rangerX = maze.getX(rangerIndex);
+        int rangerY = maze.getY(rangerIndex);
+        visit(rangerIndex);
+
+        for (MazePanel.Directions direction : DIRECTIONS) {
+            int newX = rangerX + direction.getMove().x();
+            int newY = rangerY + direction.getMove().y();
+
+            // Makes sure that the new coordinate is valid and not a Tree
+            if (!maze.isTrail(newX, newY)) continue;
+
+            int newIndex = maze.index(newX, newY);
+
+            // The searches meet when a block from the other side is reached
+            // Layers are explored whole, so the first meeting is on a shortest path
+            if (sides[newIndex] != NO_SIDE && sides[newIndex] != currentSide) {
+                rangerSideMeeting = currentSide == RANGER_SIDE ? rangerIndex : newIndex;
+                cabinSideMeeting = currentSide == RANGER_SIDE ? newIndex : rangerIndex;
+                finish(true);
+                return NO_CHANGE;
+            }
+
+            // Skips blocks this side has already discovered
+            if (sides[newIndex] != NO_SIDE) continue;
+
+            // Saves the side and parent, and shows the direction it was reached in
+            sides[newIndex] = currentSide;
+            parents[newIndex] = rangerIndex;
+            setState(newIndex, discoveredState(direction));
+
+            queueOf(currentSide).add(newIndex);
+        }
+
+        // Every neighbour has been discovered, so this block is fully explored
+        // The cabin keeps its state
+        if (maze.getState(rangerIndex) == Trail.TraversalState.CABIN)
+            return NO_CHANGE;
+
+        setState(rangerIndex, Trail.TraversalState.EXPLORED);
+        return rangerIndex;
+    }
+
+    // Returns the queue used by a side
+    private IntQueue queueOf(byte side) {
+        return side == RANGER_SIDE ? rangerQueue : cabinQueue;
+    }
+
+    // Joins the path from the ranger to the meeting point
+    // with the path from the meeting point to the cabin
+    @Override
+    public List<MazePanel.Coordinate2D> getPath() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return List.of();
+
+        ArrayList<MazePanel.Coordinate2D> path = new ArrayList<>(tracePath(parents, rangerSideMeeting));
+
+        // Ranger starting on the cabin only has one block
+        if (cabinSideMeeting == rangerSideMeeting)
+            return path;
+
+        // The cabin side parents already point towards the cabin
+        int index = cabinSideMeeting;
+        while (parents[index] != index) {
+            path.add(maze.getCoordinate(index));
+            index = parents[index];
+        }
+        path.add(maze.getCoordinate(index));
+
+        return path;
+    }
+
+    // Counts both halves of the path
+    @Override
+    public int getPathLength() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return 0;
+
+        // Ranger starting on the cabin only has one block
+        if (cabinSideMeeting == rangerSideMeeting)
+            return 1;
+
+        return tracePathLength(parents, rangerSideMeeting) + tracePathLength(parents, cabinSideMeeting);
+    }
+
+    @Override
+    public MazePanel.Coordinate2D getRangerIndex() {
+        return maze.getCoordinate(rangerIndex);
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SolverEngine which uses Breadth First Search
+ * Always finds the shortest path from the ranger to the cabin
+ *
+ * Keeps a queue of packed block indices and the parent of every discovered block
+ * Each step explores the block at the front of the queue,
+ * and discovers its neighbours in the direction they were reached
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class BreadthFirstSolver extends SolverEngine {
+    // Parent of a block that has not been discovered yet
+    private static final int UNDISCOVERED = -1;
+
+    // Parent of every block on the shortest path to it
+    // The start is its own parent
+    private final int[] parents;
+
+    // Queue of discovered blocks waiting to be explored
+    private final IntQueue queue;
+
+    // Packed index of the block the ranger is on
+    private int rangerIndex;
+
+    // Constructor
+    public BreadthFirstSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+        // Calls SolverEngine constructor
+        super(maze, startIndex);
+
+        // No block has a parent yet
+        parents = new int[maze.getCellCount()];
+        Arrays.fill(parents, UNDISCOVERED);
+
+        // The search starts at the ranger
+        rangerIndex = maze.index(startIndex);
+        parents[rangerIndex] = rangerIndex;
+
+        queue = new IntQueue();
+        queue.add(rangerIndex);
+    }
+
+    @Override
+    protected int nextStep() {
+        // If the queue is empty, the maze cannot be solved
+        if (queue.isEmpty()) {
+            finish(false);
+            return NO_CHANGE;
+        }
+
+        // Moves the ranger to the next block to explore
+        // It faces the direction it came from
+        rangerIndex = queue.poll();
+        currentDirection = directionBetween(parents[rangerIndex], rangerIndex);
+
+        int rangerX = maze.getX(rangerIndex);
+        int rangerY = maze.getY(rangerIndex);
+        visit(rangerIndex);
+
+        // Successfully found the cabin, the search is over
+        if (maze.getState(rangerIndex) == Trail.TraversalState.CABIN) {
+            finish(true);
+            return NO_CHANGE;
+        }
+
+        // Discovers every neighbour that has not been discovered yet
+        for (MazePanel.Directions direction : DIRECTIONS) {
+            int newX = rangerX + direction.getMove().x();
+            int newY = rangerY + direction.getMove().y();
+
+            // Makes sure that the new coordinate is valid and not a Tree
+            if (!maze.isTrail(newX, newY)) continue;
+
+            int newIndex = maze.index(newX, newY);
+            if (parents[newIndex] != UNDISCOVERED) continue;
+
+            // Saves the parent, and shows the direction it was reached in
+            // The cabin keeps its state
+            parents[newIndex] = rangerIndex;
+            if (maze.getState(newIndex) != Trail.TraversalState.CABIN)
+                setState(newIndex, discoveredState(direction));
+
+            queue.add(newIndex);
+        }
+
+        // Every neighbour has been discovered, so this block is fully explored
+        setState(rangerIndex, Trail.TraversalState.EXPLORED);
+        return rangerIndex;
+    }
+
+    // Follows the parents back from the cabin to the start
+    @Override
+    public List<MazePanel.Coordinate2D> getPath() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return List.of();
+
+        return tracePath(parents, rangerIndex);
+    }
+
+    @Override
+    public int getPathLength() {
+        return getOutcome() == Outcome.PATH_FOUND ? tracePathLength(parents, rangerIndex) : 0;
+    }
+
+    @Override
+    public MazePanel.Coordinate2D getRangerIndex() {
+        return maze.getCoordinate(rangerIndex);
+    }
+}
@@ -0,0 +1,152 @@
+import java.util.Arrays;
+
+/**
+ * Connected component labelling of the Trails of a maze
+ * Two blocks are in the same component if a path of Trails joins them,
+ * so checking if the cabin can be reached from the ranger is a lookup instead of a search
+ *
+ * Labels are found in two passes over the packed indices
+ * The first gives every Trail the label of the Trail to its left or above,
+ * and joins the two labels with union find when both exist
+ * The second replaces every label with the number of its component
+ *
+ * Only costs one int per block and is never updated,
+ * a new labelling is needed whenever a Tree changes
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class ConnectedComponents {
+    // Component of a Tree
+    public static final int NO_COMPONENT = -1;
+
+    // Number of labels the union find table starts with
+    private static final int INITIAL_LABELS = 64;
+
+    // Width of the maze, used to turn coordinates into packed indices
+    private final int width;
+
+    // Component of every block, NO_COMPONENT for Trees
+    // Components are numbered from zero in the order of their first block
+    private final int[] components;
+
+    // Number of blocks in every component
+    private final int[] componentSizes;
+
+    // Constructor that labels every block of the maze
+    public ConnectedComponents(MazeGrid maze) {
+        width = maze.getWidth();
+        components = new int[maze.getCellCount()];
+
+        // Reads the Trees from one flat bitset rather than looking up a chunk for every block
+        long[] trees = maze.getTreeBits();
+
+        // First pass, joins each Trail to the Trails to its left and above
+        int[] parents = new int[INITIAL_LABELS];
+        int labelCount = 0;
+
+        for (int y = 0, index = 0; y < maze.getHeight(); y++) {
+            for (int x = 0; x < width; x++, index++) {
+                if ((trees[index >>> 6] & (1L << index)) != 0) {
+                    components[index] = NO_COMPONENT;
+                    continue;
+                }
+
+                int left = x > 0 ? components[index - 1] : NO_COMPONENT;
+                int above = y > 0 ? components[index - width] : NO_COMPONENT;
+
+                // A Trail with no labelled neighbours starts a new label
+                if (left == NO_COMPONENT && above == NO_COMPONENT) {
+                    if (labelCount == parents.length)
+                        parents = Arrays.copyOf(parents, parents.length * 2);
+
+                    parents[labelCount] = labelCount;
+                    components[index] = labelCount++;
+                }
+
+                else if (left == NO_COMPONENT)
+                    components[index] = above;
+
+                else {
+                    components[index] = left;
+
+                    // Both neighbours are Trails, so their labels are the same component
+                    if (above != NO_COMPONENT && above != left)
+                        union(parents, left, above);
+                }
+            }
+        }
+
+        // Numbers the components in order
+        // Roots always have the smallest label of their set, so every root is numbered before its children
+        int[] labelComponents = new int[labelCount];
+        int componentCount = 0;
+
+        for (int label = 0; label < labelCount; label++) {
+            int root = find(parents, label);
+            labelComponents[label] = root == label ? componentCount++ : labelComponents[root];
+        }
+
+        // Second pass, replaces every label with its component and counts the blocks
+        componentSizes = new int[componentCount];
+        for (int index = 0; index < components.length; index++) {
+            if (components[index] == NO_COMPONENT) continue;
+
+            components[index] = labelComponents[components[index]];
+            componentSizes[components[index]]++;
+        }
+    }
+
+    // Returns the root label of the set a label is in
+    // Halves the path to the root as it goes
+    private static int find(int[] parents, int label) {
+        while (parents[label] != label) {
+            parents[label] = parents[parents[label]];
+            label = parents[label];
+        }
+
+        return label;
+    }
+
+    // Joins the sets of two labels
+    // The larger root points to the smaller one
+    private static void union(int[] parents, int first, int second) {
+        int firstRoot = find(parents, first);
+        int secondRoot = find(parents, second);
+
+        if (firstRoot < secondRoot)
+            parents[secondRoot] = firstRoot;
+
+        else if (secondRoot < firstRoot)
+            parents[firstRoot] = secondRoot;
+    }
+
+    // Returns the component of the block at the index, NO_COMPONENT if it is a Tree
+    public int getComponent(int index) {
+        return components[index];
+    }
+
+    public int getComponent(MazePanel.Coordinate2D coordinate) {
+        return getComponent(coordinate.y() * width + coordinate.x());
+    }
+
+    // Returns if a path of Trails joins the two blocks
+    // Trees are not connected to anything
+    public boolean isConnected(int first, int second) {
+        return components[first] != NO_COMPONENT && components[first] == components[second];
+    }
+
+    public boolean isConnected(MazePanel.Coordinate2D first, MazePanel.Coordinate2D second) {
+        return isConnected(first.y() * width + first.x(), second.y() * width + second.x());
+    }
+
+    // Returns the number of components
+    public int getComponentCount() {
+        return componentSizes.length;
+    }
+
+    // Returns the number of blocks in a component
+    public int getComponentSize(int component) {
+        return componentSizes[component];
+    }
+}
@@ -0,0 +1,157 @@
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * SolverEngine which uses Depth First Search
+ * Keeps track of position and uses a stack of packed block indices for DFS
+ *
+ * Each step turns the Trail the ranger is on to its next TraversalState
+ * The ranger tries every direction in order before backtracking
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class DepthFirstSolver extends SolverEngine {
+    // Maps traversal states to the direction of movement
+    private static final EnumMap<Trail.TraversalState, MazePanel.Directions> stateDirections;
+
+    static {
+        stateDirections = new EnumMap<>(Trail.TraversalState.class);
+
+        // Adds 4 directions mapped to traversal states
+        stateDirections.put(Trail.TraversalState.DISCOVERED_N, MazePanel.Directions.NORTH);
+        stateDirections.put(Trail.TraversalState.DISCOVERED_E, MazePanel.Directions.EAST);
+        stateDirections.put(Trail.TraversalState.DISCOVERED_S, MazePanel.Directions.SOUTH);
+        stateDirections.put(Trail.TraversalState.DISCOVERED_W, MazePanel.Directions.WEST);
+    }
+
+    // Stack for Depth First Search
+    // Contains packed indices of locations in the maze
+    // Every Trail is pushed at most once, so it is sized to never grow
+    private final IntStack traversalStack;
+
+    // Constructor
+    public DepthFirstSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+        // Calls SolverEngine constructor
+        super(maze, startIndex);
+
+        // Initializes stack of indices
+        // Adds the rangers starting index to the Stack
+        traversalStack = new IntStack(maze.getTrailCount() + 1);
+        traversalStack.push(maze.index(startIndex));
+    }
+
+    @Override
+    protected int nextStep() {
+        // If the stack is empty, the maze cannot be solved
+        if (traversalStack.isEmpty()) {
+            finish(false);
+            return NO_CHANGE;
+        }
+
+        // Location of ranger
+        int rangerIndex = traversalStack.peek();
+
+        // If the ranger is not on a Trail, it is likely on a Tree
+        // Throw an Exception because that should never happen
+        if (maze.isTree(rangerIndex)) {
+            throw new IllegalStateException("Ranger must be on a Trail");
+        }
+
+        // Moves the current block to its next state
+        Trail.TraversalState newState = maze.getState(rangerIndex).next();
+        setState(rangerIndex, newState);
+
+        // Handles the new state of the current block
+        // All previous states should have been handled already
+        switch (newState) {
+            // Attempts to add the block in that direction to the stack
+            // Uses the state direction that corresponds with the current traversal state
+            case DISCOVERED_N, DISCOVERED_E, DISCOVERED_S, DISCOVERED_W -> {
+                // The first state of a Trail is the first time it is visited
+                if (newState == Trail.TraversalState.DISCOVERED_N)
+                    visit(rangerIndex);
+
+                addIfUndiscovered(rangerIndex, stateDirections.get(newState));
+            }
+
+            // This path is fully explored, pop it from the stack
+            // Updates the direction of the ranger
+            case EXPLORED -> {
+                traversalStack.pop();
+
+                // Face south if the stack is empty
+                if (traversalStack.isEmpty()) {
+                    currentDirection = MazePanel.Directions.SOUTH;
+                }
+
+                // Updates the current direction based on the traversal state of the previous Trail
+                else currentDirection = stateDirections.get(maze.getState(traversalStack.peek()));
+            }
+
+            // Successfully found the cabin, the search is over
+            case CABIN -> {
+                visit(rangerIndex);
+                finish(true);
+                return NO_CHANGE;
+            }
+
+            // The next state of a block should never be UNDISCOVERED, since it's the first state
+            case UNDISCOVERED -> throw new IllegalStateException("Next state of Block is UNDISCOVERED");
+        }
+
+        return rangerIndex;
+    }
+
+    // Tries to move the ranger in the given direction
+    // Takes the current location of the ranger and direction af movement
+    private void addIfUndiscovered(int index, MazePanel.Directions movementDirection) {
+        // Since the ranger is trying to move to this square,
+        // it should face the movement direction
+        currentDirection = movementDirection;
+
+        // Calculates the new movement direction
+        int newX = maze.getX(index) + movementDirection.getMove().x();
+        int newY = maze.getY(index) + movementDirection.getMove().y();
+
+        // Makes sure that the new coordinate is valid and not a Tree
+        if (!maze.isTrail(newX, newY)) return;
+
+        // If the new Trail has already been discovered then
+        // It is on the stack and should not be pushed again
+        int newIndex = maze.index(newX, newY);
+        Trail.TraversalState newState = maze.getState(newIndex);
+        if (newState != Trail.TraversalState.UNDISCOVERED && newState != Trail.TraversalState.CABIN) return;
+
+        // Add the index to the stack since it is valid
+        traversalStack.push(newIndex);
+    }
+
+    // The stack holds the path from the start to the ranger
+    // It is only a path to the cabin if the cabin was found
+    @Override
+    public List<MazePanel.Coordinate2D> getPath() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return List.of();
+
+        ArrayList<MazePanel.Coordinate2D> path = new ArrayList<>(traversalStack.size());
+        for (int i = 0; i < traversalStack.size(); i++) {
+            path.add(maze.getCoordinate(traversalStack.get(i)));
+        }
+
+        return path;
+    }
+
+    // The path is every block on the stack
+    @Override
+    public int getPathLength() {
+        return getOutcome() == Outcome.PATH_FOUND ? traversalStack.size() : 0;
+    }
+
+    // The ranger is on top of the stack, or at the start if the stack is empty
+    @Override
+    public MazePanel.Coordinate2D getRangerIndex() {
+        return traversalStack.isEmpty() ? startIndex : maze.getCoordinate(traversalStack.peek());
+    }
+}
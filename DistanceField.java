@@ -0,0 +1,129 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Number of moves from every block of a maze to the cabin
+ * Found once with a Breadth First Search out from the cabin,
+ * then the shortest path from any start is found by always moving to a neighbour one move closer
+ * Finding a path only costs its length, and starts that cannot reach the cabin are known straight away
+ *
+ * The distances only depend on the Trees and the cabin
+ * A field still matches a maze after the ranger moves or the traversal states change,
+ * and is only out of date once a Tree or the cabin changes
+ *
+ * Costs one int per block
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class DistanceField {
+    // Distance of a block that cannot reach the cabin, or is a Tree
+    public static final int UNREACHED = ParallelBreadthFirstSearch.UNREACHED;
+
+    // Dimensions of the maze
+    private final int height;
+    private final int width;
+
+    // Hash of the Trees and packed index of the cabin the distances were found for
+    private final long treeHash;
+    private final int cabinIndex;
+
+    // Number of moves from every block to the cabin
+    private final int[] distances;
+
+    // Constructor that finds the distance from every block to the cabin of the maze
+    public DistanceField(MazeGrid maze) {
+        if (maze.getCabinIndex() == MazeGrid.NO_CABIN)
+            throw new IllegalArgumentException("Maze does not have a cabin");
+
+        height = maze.getHeight();
+        width = maze.getWidth();
+        treeHash = maze.getTreeHash();
+        cabinIndex = maze.getCabinIndex();
+
+        // Moves can be reversed, so the distance from the cabin is the distance to it
+        distances = ParallelBreadthFirstSearch.serialDistances(maze, cabinIndex);
+    }
+
+    // Returns if the distances apply to the maze, which has the same Trees and cabin
+    public boolean matches(MazeGrid maze) {
+        return maze.getHeight() == height && maze.getWidth() == width
+                && maze.getCabinIndex() == cabinIndex && maze.getTreeHash() == treeHash;
+    }
+
+    // Returns the number of moves from the block at the index to the cabin, UNREACHED if there is no path
+    public int getDistance(int index) {
+        return distances[index];
+    }
+
+    public int getDistance(MazePanel.Coordinate2D coordinate) {
+        return getDistance(coordinate.y() * width + coordinate.x());
+    }
+
+    // Returns if there is a path from the block at the index to the cabin
+    public boolean isReachable(int index) {
+        return distances[index] != UNREACHED;
+    }
+
+    public boolean isReachable(MazePanel.Coordinate2D coordinate) {
+        return isReachable(coordinate.y() * width + coordinate.x());
+    }
+
+    // Returns the packed indices of a shortest path from the start to the cabin, including both
+    // Empty if the start cannot reach the cabin
+    public int[] getPath(int start) {
+        if (!isReachable(start))
+            return new int[0];
+
+        int[] path = new int[distances[start] + 1];
+        path[0] = start;
+
+        // Every block other than the cabin has a neighbour one move closer
+        for (int i = 1; i < path.length; i++) {
+            path[i] = nextIndex(path[i - 1]);
+        }
+
+        return path;
+    }
+
+    // Returns a shortest path from the start to the cabin as coordinates
+    public List<MazePanel.Coordinate2D> getPath(MazePanel.Coordinate2D start) {
+        int[] path = getPath(start.y() * width + start.x());
+
+        ArrayList<MazePanel.Coordinate2D> coordinates = new ArrayList<>(path.length);
+        for (int index : path) {
+            coordinates.add(new MazePanel.Coordinate2D(index % width, index / width));
+        }
+
+        return coordinates;
+    }
+
+    // Returns the neighbour one move closer to the cabin
+    // Tries the directions in the same order as the solvers, so paths are always the same
+    public int nextIndex(int index) {
+        if (!isReachable(index) || index == cabinIndex)
+            throw new IllegalArgumentException("Block is not on a path to the cabin");
+
+        int x = index % width;
+        int y = index / width;
+
+        for (MazePanel.Directions direction : SolverEngine.DIRECTIONS) {
+            int newX = x + direction.getMove().x();
+            int newY = y + direction.getMove().y();
+
+            if (newX < 0 || newX >= width || newY < 0 || newY >= height) continue;
+
+            int newIndex = newY * width + newX;
+            if (distances[newIndex] == distances[index] - 1)
+                return newIndex;
+        }
+
+        // Cannot happen for distances found by a Breadth First Search
+        throw new IllegalStateException("No neighbour is closer to the cabin");
+    }
+
+    // Getter for the packed index of the cabin
+    public int getCabinIndex() {
+        return cabinIndex;
+    }
+}
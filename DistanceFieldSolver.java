@@ -0,0 +1,100 @@
+import java.util.List;
+
+/**
+ * SolverEngine which walks down a DistanceField to the cabin
+ * Always finds a shortest path, without searching the maze
+ *
+ * Each step moves the ranger to the neighbour one move closer to the cabin,
+ * and turns the Trail it leaves to the direction it moved in
+ * Starts that cannot reach the cabin end on the first step
+ *
+ * Finding the distance field costs a full Breadth First Search of the maze,
+ * but the same field can be given to solvers from every start until a Tree or the cabin changes
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class DistanceFieldSolver extends SolverEngine {
+    // Distances to the cabin, null if the maze does not have a cabin
+    private final DistanceField distanceField;
+
+    // Packed index of the block the ranger is on
+    private int rangerIndex;
+
+    // Constructor that finds the distance field of the maze
+    public DistanceFieldSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+        this(maze, startIndex, null);
+    }
+
+    // Constructor with a distance field that was found before, which must match the maze
+    // The field is found from the maze if it is null, and one that does not match is rejected
+    public DistanceFieldSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex, DistanceField distanceField) {
+        // Calls SolverEngine constructor
+        super(maze, startIndex);
+
+        // A field for other Trees or another cabin would walk the ranger through Trees
+        if (distanceField != null && !distanceField.matches(maze))
+            throw new IllegalArgumentException("Distance field does not match the maze");
+
+        if (distanceField == null && maze.getCabinIndex() != MazeGrid.NO_CABIN)
+            distanceField = new DistanceField(maze);
+
+        this.distanceField = distanceField;
+        rangerIndex = maze.index(startIndex);
+    }
+
+    @Override
+    protected int nextStep() {
+        // The first step starts at the ranger
+        if (getVisitedCount() == 0) {
+            visit(rangerIndex);
+
+            // Starts that cannot reach the cabin are known straight away
+            if (distanceField == null || !distanceField.isReachable(rangerIndex)) {
+                finish(false);
+                return NO_CHANGE;
+            }
+        }
+
+        if (rangerIndex == distanceField.getCabinIndex()) {
+            finish(true);
+            return NO_CHANGE;
+        }
+
+        // Moves one block closer to the cabin
+        int oldIndex = rangerIndex;
+        rangerIndex = distanceField.nextIndex(oldIndex);
+        currentDirection = directionBetween(oldIndex, rangerIndex);
+        visit(rangerIndex);
+
+        setState(oldIndex, discoveredState(currentDirection));
+
+        if (rangerIndex == distanceField.getCabinIndex())
+            finish(true);
+
+        return oldIndex;
+    }
+
+    @Override
+    public List<MazePanel.Coordinate2D> getPath() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return List.of();
+
+        return distanceField.getPath(startIndex);
+    }
+
+    @Override
+    public int getPathLength() {
+        return getOutcome() == Outcome.PATH_FOUND ? distanceField.getDistance(startIndex) + 1 : 0;
+    }
+
+    @Override
+    public MazePanel.Coordinate2D getRangerIndex() {
+        return maze.getCoordinate(rangerIndex);
+    }
+
+    // Getter for the distance field, null if the maze does not have a cabin
+    public DistanceField getDistanceField() {
+        return distanceField;
+    }
+}
@@ -5,6 +5,7 @@ import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
+import javax.swing.JScrollPane;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.event.ActionEvent;
@@ -19,7 +20,7 @@ import java.io.File;
  * Many methods take an ActionEvent, so they can be called by buttons
  *
  * @author Asif Rahman
- * @version 10/05/2023
+ * @version 17/10/2026
  */
 public class Driver extends JFrame implements PathFinderListener
 {
@@ -38,9 +39,10 @@ public class Driver extends JFrame implements PathFinderListener
     // File chooser for loading and saving mazes
     private final JFileChooser fileChooser;
 
-    // Dimensions of the maze
-    private static final int MAZE_HEIGHT = 12;
-    private static final int MAZE_WIDTH = 12;
+    // Dimensions of the default maze
+    // Mazes loaded from files can have any dimensions
+    private static final int DEFAULT_MAZE_HEIGHT = 12;
+    private static final int DEFAULT_MAZE_WIDTH = 12;
 
     // Dimensions of the main PathFinder panel
     private static final int PANEL_HEIGHT = 600;
@@ -52,11 +54,15 @@ public class Driver extends JFrame implements PathFinderListener
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
 
         // Creates a file handler for the maze
-        MazeFileHandler fileHandler = new MazeFileHandler(MAZE_HEIGHT, MAZE_WIDTH, PANEL_HEIGHT, PANEL_WIDTH);
+        MazeFileHandler fileHandler = new MazeFileHandler(DEFAULT_MAZE_HEIGHT, DEFAULT_MAZE_WIDTH);
 
         // Initializes Pathfinder panel using the maze and ranger created in file handler
-        pathfinder = new PathFinder(MAZE_HEIGHT, MAZE_WIDTH, PANEL_HEIGHT, PANEL_WIDTH, fileHandler.getMaze());
+        pathfinder = new PathFinder(PANEL_HEIGHT, PANEL_WIDTH, fileHandler.getMaze());
         pathfinder.setStartIndex(fileHandler.getRangerIndex());
+        pathfinder.setComponents(fileHandler.getComponents());
+
+        // Searches are cached, so solving the maze again after a reset replays the search
+        pathfinder.setSolveCache(new SolveCache());
 
         // Creates a new maze editor
         editor = new MazeEditor(pathfinder, fileHandler);
@@ -89,11 +95,17 @@ public class Driver extends JFrame implements PathFinderListener
         // Initializes file chooser
         fileChooser = new JFileChooser();
 
-        // Sets the Icon Image to the Tree image
-        setIconImage(new ImageIcon(Tree.getImagePath()).getImage());
+        // Sets the Icon Image to the Tree image if it loaded
+        ImageIcon treeIcon = ImageCache.getIcon(Tree.getImagePath());
+        if (treeIcon != null)
+            setIconImage(treeIcon.getImage());
+
+        // Mazes too big for the panel can be scrolled
+        JScrollPane pathfinderScrollPane = new JScrollPane(pathfinder);
+        pathfinderScrollPane.setBorder(null);
 
         // Adds JPanels and menubar to frame and packs it
-        getContentPane().add(pathfinder);
+        getContentPane().add(pathfinderScrollPane);
         getContentPane().add(buttonPanel, BorderLayout.SOUTH);
         getContentPane().add(menubar, BorderLayout.NORTH);
         pack();
@@ -138,9 +150,20 @@ public class Driver extends JFrame implements PathFinderListener
         file.add(saveFile);
         file.add(loadFile);
 
-        // Adds Edit and File menus to menubar
+        // Creates a Search menu
+        JMenu search = new JMenu("Search");
+
+        // Adds a menu item for every search strategy
+        for (SolverEngine.Strategy strategy : SolverEngine.Strategy.values()) {
+            JMenuItem strategyItem = new JMenuItem(strategy.getDisplayName());
+            strategyItem.addActionListener(e -> setPathFinderStrategy(strategy));
+            search.add(strategyItem);
+        }
+
+        // Adds Edit, File and Search menus to menubar
         menubar.add(edit);
         menubar.add(file);
+        menubar.add(search);
     }
 
     // Attempts to read a new maze from maze.txt and send it to the editor
@@ -239,6 +262,16 @@ public class Driver extends JFrame implements PathFinderListener
         }
     }
 
+    // Stops the pathfinder and switches it to a new search strategy
+    // The pathfinder resets, so the new strategy starts from the beginning
+    private void setPathFinderStrategy(SolverEngine.Strategy strategy) {
+        pathfinder.stop();
+        pathfinder.setStrategy(strategy);
+
+        // Lets the user know the strategy changed
+        JOptionPane.showMessageDialog(this, "Search strategy set to " + strategy.getDisplayName() + ".");
+    }
+
     // PathFinder ended, disable all buttons and let user know
     @Override
     public void pathFound(PathFinderEvent e) {
@@ -288,6 +321,7 @@ public class Driver extends JFrame implements PathFinderListener
         // Sets the maze and ranger index in pathfinder to the original one in fileHandler
         pathfinder.setMaze(fileHandler.getMaze());
         pathfinder.setStartIndex(fileHandler.getRangerIndex());
+        pathfinder.setComponents(fileHandler.getComponents());
 
         // Sets button configuration
         timerStopped(e);
@@ -1,9 +1,11 @@
 import javax.swing.ImageIcon;
+import javax.swing.SwingWorker;
 import java.awt.Graphics;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Maze editor panel for a maze solver
@@ -11,8 +13,12 @@ import java.util.Arrays;
  * Displays an editable maze
  * Uses mouse events to allow user to edit
  *
+ * Keeps the connected components of the maze up to date as Trees are placed and erased,
+ * so the editor can show if the cabin can be reached while the user draws
+ * Changes that are too big to update on the event dispatch thread are labelled again in the background
+ *
  * @author Asif Rahman
- * @version 28/05/2023
+ * @version 17/10/2026
  */
 public class EditorPanel extends MazePanel implements MouseListener, MouseMotionListener {
 
@@ -40,10 +46,11 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
         }
         
         // Method that returns an array of ImageIcons
-        // Created from all the file paths
+        // Gets all of them from the ImageCache, missing images are left blank
         public static ImageIcon[] getDrawableBlockIcons() {
             return Arrays.stream(values()) // Gets every DrawableBlock
-                    .map(item -> new ImageIcon(item.getFilePath())) // Creates an ImageIcon with its file path
+                    .map(item -> ImageCache.getIcon(item.getFilePath())) // Gets the shared ImageIcon for its file path
+                    .map(icon -> icon != null ? icon : new ImageIcon()) // Uses an empty ImageIcon if it is missing
                     .toArray(ImageIcon[]::new); // Creates an ImageIcon[] from the Stream<ImageIcon> 
         }
     }
@@ -55,13 +62,28 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
     // There should not be more than one cabin
     private Coordinate2D cabinIndex = null;
 
-    public EditorPanel(int mazeHeight, int mazeWidth, int panelHeight, int panelWidth, PathBlock[][] maze) {
+    // Connected components of the maze, null while they are being labelled
+    private IncrementalComponents components;
+
+    // Worker labelling the components in the background, null if none is running
+    private SwingWorker<IncrementalComponents, Void> labelWorker;
+
+    // Number of changes to the Trees, used to know if a labelling is still current
+    private int treeChanges;
+
+    // Called whenever the connectivity of the maze, ranger or cabin may have changed
+    private Runnable connectivityListener;
+
+    public EditorPanel(int panelHeight, int panelWidth, MazeGrid maze) {
         // Calls MazePanel constructor
-        super(mazeHeight, mazeWidth, panelHeight, panelWidth, maze);
+        super(panelHeight, panelWidth, maze);
         
         // Adds this class as a mouse and mouse motion listener
         addMouseListener(this);
         addMouseMotionListener(this);
+
+        // Labels the components of the first maze
+        labelComponents();
     }
     
     // Sets a new currentIcon value as the selected icon changed
@@ -83,8 +105,8 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
              cabinIndex = null;
         }
             
-         // Create a new Trail object in case it is a cabin or Tree
-         maze[y][x] = new Trail(x * blockWidth, y * blockHeight, blockWidth, blockHeight);
+         // Replace it with a new Trail in case it is a cabin or Tree
+         maze.setTree(x, y, false);
     }
 
     @Override
@@ -111,6 +133,13 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
         if (x < 0 || x >= mazeWidth) return;
         if (y < 0 || y >= mazeHeight) return;
         
+        // Saves if the block was a Tree, to know if the static layer needs updating
+        boolean wasTree = maze.isTree(x, y);
+
+        // Saves where the ranger and cabin were, since their old blocks need repainting if they move
+        Coordinate2D oldStartIndex = startIndex;
+        Coordinate2D oldCabinIndex = cabinIndex;
+
         // Erases whatever was there previously
         erase(x, y);
 
@@ -118,7 +147,7 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
          switch (currentIcon) {
              case TREE ->
                  // Makes the block a Tree
-                 maze[y][x] = new Tree(x * blockWidth, y * blockHeight, blockWidth, blockHeight);
+                 maze.setTree(x, y, true);
 
              case RANGER ->
                  // Updates start index of ranger
@@ -130,20 +159,92 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
                  if (cabinIndex != null) {
                      int xInd = cabinIndex.x();
                      int yInd = cabinIndex.y();
-                     ((Trail)maze[yInd][xInd]).setTraversalState(Trail.TraversalState.UNDISCOVERED);
+                     maze.setState(xInd, yInd, Trail.TraversalState.UNDISCOVERED);
                  }
 
                  // Sets the state of the Trail to CABIN and save cabin index
                  cabinIndex = new Coordinate2D(x, y);
-                 ((Trail)maze[y][x]).setTraversalState(Trail.TraversalState.CABIN);
+                 maze.setState(x, y, Trail.TraversalState.CABIN);
              }
              
              // Does nothing as current square was already erased
              case ERASER -> {}
          }
 
-         // Repaint the panel
-        repaint();
+         // Redraws the Trees around the block and updates the components if it changed
+         if (maze.isTree(x, y) != wasTree) {
+             updateStaticBlock(x, y);
+             updateComponents(x, y);
+         }
+
+         // The ranger or cabin may have moved as well
+         fireConnectivityChanged();
+
+         // Repaints only the edited block and the blocks the ranger and cabin moved from
+         repaintBlock(x, y);
+         repaintBlock(oldStartIndex);
+         repaintBlock(oldCabinIndex);
+    }
+
+    // Repaints the block at the given coordinates, if there are any
+    private void repaintBlock(Coordinate2D block) {
+        if (block != null)
+            repaintBlock(block.x(), block.y());
+    }
+
+    // Updates the components after the block became a Tree or a Trail
+    // Labels them again in the background if the change was too big to update here
+    private void updateComponents(int x, int y) {
+        treeChanges++;
+
+        if (components != null && components.setTree(x, y, maze.isTree(x, y)))
+            return;
+
+        labelComponents();
+    }
+
+    // Labels the components of a snapshot of the maze in the background
+    // If the Trees change before it finishes, it is started again
+    private void labelComponents() {
+        components = null;
+
+        // The running worker starts a new one once it sees the Trees changed
+        if (labelWorker != null) return;
+
+        MazeSnapshot snapshot = maze.snapshot();
+        int labelledChanges = treeChanges;
+
+        labelWorker = new SwingWorker<>() {
+            @Override
+            protected IncrementalComponents doInBackground() {
+                return new IncrementalComponents(snapshot.toGrid());
+            }
+
+            // Runs on the event dispatch thread once the labelling is finished
+            @Override
+            protected void done() {
+                labelWorker = null;
+
+                // The Trees changed while labelling, so the components are already out of date
+                if (labelledChanges != treeChanges) {
+                    labelComponents();
+                    return;
+                }
+
+                try {
+                    components = get();
+                }
+
+                // Connectivity stays unknown if the labelling failed
+                catch (InterruptedException | ExecutionException e) {
+                    components = null;
+                }
+
+                fireConnectivityChanged();
+            }
+        };
+
+        labelWorker.execute();
     }
     
     // Clears everything off of the maze
@@ -152,16 +253,33 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
         startIndex = null;
         cabinIndex = null;
 
-        // Replace everything with an empty Trail object
-        for (int i = 0; i < mazeHeight; i++) {
-            for (int j = 0; j < mazeWidth; j++) {
-                // Trail is a subclass of Rectangle, so pass in coordinates and dimensions
-                maze[i][j] = new Trail(j * blockWidth, i * blockHeight, blockWidth, blockHeight);
-            }
-        }
+        // Replace everything with an empty Trail
+        maze = new MazeGrid(mazeHeight, mazeWidth);
+
+        // Every Tree was removed, so the static layer is drawn again and the panel repainted
+        invalidateStaticLayer();
+
+        // Every block is now in one component
+        treeChanges++;
+        labelComponents();
+        fireConnectivityChanged();
+    }
+
+    // Overrides the setter for maze, since the components need to be labelled again
+    @Override
+    public void setMaze(MazeGrid maze) {
+        super.setMaze(maze);
+
+        treeChanges++;
+        labelComponents();
+        fireConnectivityChanged();
+    }
 
-        // Repaints panel
-        repaint();
+    // Overrides the setter for startIndex, since the ranger may have moved to another component
+    @Override
+    public void setStartIndex(Coordinate2D startIndex) {
+        super.setStartIndex(startIndex);
+        fireConnectivityChanged();
     }
 
     // Returns if the maze is currently valid
@@ -171,9 +289,45 @@ public class EditorPanel extends MazePanel implements MouseListener, MouseMotion
         return startIndex != null && cabinIndex != null;
     }
 
+    // Returns if the components are up to date with the maze
+    // They are not while they are being labelled in the background
+    public boolean isConnectivityKnown() {
+        return components != null;
+    }
+
+    // Returns if a path of Trails joins the ranger to the cabin
+    // False while the components are being labelled, so check isConnectivityKnown first
+    public boolean isCabinReachable() {
+        if (!isMazeValid() || components == null)
+            return false;
+
+        return components.isConnected(startIndex, cabinIndex);
+    }
+
+    // Returns the number of blocks the ranger can reach, including its own
+    // Zero if there is no ranger or the components are being labelled
+    public int getRangerAreaSize() {
+        if (startIndex == null || components == null)
+            return 0;
+
+        return components.getComponentSize(startIndex);
+    }
+
+    // Setter for the listener called whenever the connectivity may have changed
+    public void setConnectivityListener(Runnable connectivityListener) {
+        this.connectivityListener = connectivityListener;
+    }
+
+    // Calls the connectivity listener, if there is one
+    private void fireConnectivityChanged() {
+        if (connectivityListener != null)
+            connectivityListener.run();
+    }
+
     // Setter for the cabin index
     public void setCabinIndex(Coordinate2D cabinIndex) {
         this.cabinIndex = cabinIndex;
+        fireConnectivityChanged();
     }
         
     
@@ -0,0 +1,46 @@
+import javax.swing.ImageIcon;
+import java.io.File;
+import java.net.URL;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of ImageIcons keyed by file path
+ * Every image is decoded once and then shared by every PathBlock, Ranger and editor icon
+ * Safe to use from any thread
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class ImageCache {
+    // Loaded icons, empty if the image could not be found
+    private static final ConcurrentHashMap<String, Optional<ImageIcon>> icons = new ConcurrentHashMap<>();
+
+    // Only has static methods
+    private ImageCache() {}
+
+    // Returns the icon for a file path, loading it the first time it is asked for
+    // Returns null if the image could not be found
+    public static ImageIcon getIcon(String filepath) {
+        // Throws exception given a null file path
+        if (filepath == null)
+            throw new IllegalArgumentException("File path cannot be null");
+
+        return icons.computeIfAbsent(filepath, ImageCache::loadIcon).orElse(null);
+    }
+
+    // Attempts to load an icon from a file path
+    private static Optional<ImageIcon> loadIcon(String filepath) {
+        // Looks on the class path first
+        URL imageURL = ImageCache.class.getResource(filepath);
+        if (imageURL != null)
+            return Optional.of(new ImageIcon(imageURL));
+
+        // Then relative to the working directory
+        if (new File(filepath).isFile())
+            return Optional.of(new ImageIcon(filepath));
+
+        // The image could not be found
+        return Optional.empty();
+    }
+}
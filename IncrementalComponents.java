@@ -0,0 +1,406 @@
+import java.util.Arrays;
+
+/**
+ * Connected components of the Trails of a maze, kept up to date as single blocks change
+ * Used by the editor to show if the cabin can be reached while the user draws
+ *
+ * Every block has a label, and labels of the same component are joined with union find
+ * Removing a Tree joins the components around it, which only costs a few union find operations
+ *
+ * Placing a Tree can split its component, which union find cannot undo
+ * Instead, a Breadth First Search starts from every Trail beside the new Tree, one block each in turn
+ * Searches that meet are in the same piece, and once only one piece is left searching nothing more is split
+ * A search that runs out of blocks has found a whole piece that was cut off, which gets a new label
+ * So placing a Tree only costs about the size of the smallest pieces, not the size of the maze
+ *
+ * Cutting a big maze in half would still search half of it, so the searches stop after SPLIT_LIMIT blocks
+ * The components are then out of date, and a new labelling is needed
+ *
+ * Not thread safe, only used on the event dispatch thread
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class IncrementalComponents {
+    // Number of labels the union find tables start with
+    private static final int INITIAL_LABELS = 64;
+
+    // Most Trails that can be beside a block, one search is run from each
+    private static final int MAX_SEARCHES = 4;
+
+    // Most blocks the searches can find after placing a Tree before giving up
+    private static final int SPLIT_LIMIT = 1 << 18;
+
+    // Width of the maze, used to find the blocks beside a block
+    private final int width;
+
+    // Bitset of Trees, one bit per packed index
+    private final long[] trees;
+
+    // Label of every block, ConnectedComponents.NO_COMPONENT for Trees
+    // The component is the root of the label in the union find tables
+    private final int[] labels;
+
+    // Union find tables, with the number of blocks in the component of every root
+    private int[] parents;
+    private int[] sizes;
+    private int labelCount;
+
+    // Number of components
+    private int componentCount;
+
+    // Set once a split was too big to search, every later change is ignored
+    private boolean outdated;
+
+    // Marks of the blocks found by the searches after placing a Tree
+    // Each placement uses new marks, the search that found a block is its mark minus the base
+    private final int[] marks;
+    private int markBase;
+
+    // Blocks found by each search, the ones after the head are still waiting to be explored
+    private final int[][] searchBlocks = new int[MAX_SEARCHES][INITIAL_LABELS];
+    private final int[] searchSizes = new int[MAX_SEARCHES];
+    private final int[] searchHeads = new int[MAX_SEARCHES];
+
+    // Pieces the searches belong to, searches that met are joined
+    private final int[] searchPieces = new int[MAX_SEARCHES];
+
+    // Searches whose piece was cut off and has been labelled
+    private final boolean[] finishedSearches = new boolean[MAX_SEARCHES];
+
+    // Constructor that labels every block of the maze
+    public IncrementalComponents(MazeGrid maze) {
+        width = maze.getWidth();
+        trees = maze.getTreeBits();
+
+        // Starts from a full labelling, every component is its own root
+        ConnectedComponents components = new ConnectedComponents(maze);
+        labels = new int[maze.getCellCount()];
+        for (int index = 0; index < labels.length; index++) {
+            labels[index] = components.getComponent(index);
+        }
+
+        componentCount = components.getComponentCount();
+        labelCount = componentCount;
+        parents = new int[Math.max(labelCount, INITIAL_LABELS)];
+        sizes = new int[parents.length];
+
+        for (int label = 0; label < labelCount; label++) {
+            parents[label] = label;
+            sizes[label] = components.getComponentSize(label);
+        }
+
+        marks = new int[labels.length];
+    }
+
+    // Updates the components after a block becomes a Tree or a Trail
+    // Returns false if the components are out of date, and should be labelled again
+    public boolean setTree(int index, boolean tree) {
+        if (outdated) return false;
+        if (tree == isTree(index)) return true;
+
+        if (tree)
+            placeTree(index);
+
+        else removeTree(index);
+
+        return !outdated;
+    }
+
+    public boolean setTree(int x, int y, boolean tree) {
+        return setTree(y * width + x, tree);
+    }
+
+    // Returns if every change so far has been applied
+    // Once outdated, nothing else can be looked up
+    public boolean isUpToDate() {
+        return !outdated;
+    }
+
+    // Turns a Tree into a Trail, joining the components around it
+    private void removeTree(int index) {
+        trees[index >>> 6] &= ~(1L << index);
+
+        int root = ConnectedComponents.NO_COMPONENT;
+        int[] neighbours = new int[MAX_SEARCHES];
+        int neighbourCount = getTrailNeighbours(index, neighbours);
+
+        for (int i = 0; i < neighbourCount; i++) {
+            int neighbourRoot = find(labels[neighbours[i]]);
+
+            if (root == ConnectedComponents.NO_COMPONENT)
+                root = neighbourRoot;
+
+            else if (root != neighbourRoot) {
+                root = union(root, neighbourRoot);
+                componentCount--;
+            }
+        }
+
+        // A Trail without Trails beside it is a new component
+        if (root == ConnectedComponents.NO_COMPONENT) {
+            root = newLabel();
+            componentCount++;
+        }
+
+        labels[index] = root;
+        sizes[root]++;
+    }
+
+    // Turns a Trail into a Tree, splitting its component if the Trails beside it are no longer joined
+    private void placeTree(int index) {
+        int root = find(labels[index]);
+
+        trees[index >>> 6] |= 1L << index;
+        labels[index] = ConnectedComponents.NO_COMPONENT;
+        sizes[root]--;
+
+        int[] neighbours = new int[MAX_SEARCHES];
+        int neighbourCount = getTrailNeighbours(index, neighbours);
+
+        // A Trail on its own leaves no component behind
+        if (neighbourCount == 0) {
+            componentCount--;
+            return;
+        }
+
+        // One Trail beside the Tree cannot be split from anything
+        if (neighbourCount > 1)
+            splitComponent(root, neighbours, neighbourCount);
+    }
+
+    // Searches from each Trail beside a new Tree until all but one piece of the component is known
+    // Pieces that were cut off get new labels, the last piece keeps the old root
+    private void splitComponent(int root, int[] neighbours, int searchCount) {
+        startMarks();
+
+        for (int search = 0; search < searchCount; search++) {
+            searchBlocks[search][0] = neighbours[search];
+            searchSizes[search] = 1;
+            searchHeads[search] = 0;
+            searchPieces[search] = search;
+            finishedSearches[search] = false;
+            marks[neighbours[search]] = markBase + search;
+        }
+
+        int pieceCount = searchCount;
+        int foundCount = searchCount;
+
+        while (pieceCount > 1) {
+            // Gives up once the pieces are too big to search
+            if (foundCount > SPLIT_LIMIT) {
+                outdated = true;
+                return;
+            }
+
+            boolean searchRanOut = false;
+
+            // Each search explores one block in turn, so the smallest pieces run out first
+            for (int search = 0; search < searchCount; search++) {
+                if (searchHeads[search] == searchSizes[search]) continue;
+
+                int block = searchBlocks[search][searchHeads[search]++];
+                int x = block % width;
+                int sizeBefore = searchSizes[search];
+
+                if (x > 0)
+                    pieceCount = discover(search, block - 1, pieceCount);
+                if (x < width - 1)
+                    pieceCount = discover(search, block + 1, pieceCount);
+                if (block >= width)
+                    pieceCount = discover(search, block - width, pieceCount);
+                if (block < labels.length - width)
+                    pieceCount = discover(search, block + width, pieceCount);
+
+                foundCount += searchSizes[search] - sizeBefore;
+
+                if (searchHeads[search] == searchSizes[search])
+                    searchRanOut = true;
+            }
+
+            if (!searchRanOut) continue;
+
+            // Any piece whose searches have run out of blocks was cut off
+            for (int piece = 0; piece < searchCount && pieceCount > 1; piece++) {
+                if (finishedSearches[piece] || findPiece(piece) != piece || !isPieceFinished(piece, searchCount))
+                    continue;
+
+                labelPiece(root, piece, searchCount);
+                pieceCount--;
+            }
+        }
+    }
+
+    // Adds a block to a search if it is a Trail that no search has found yet
+    // If another search found it, their pieces are joined
+    // Returns the number of pieces left
+    private int discover(int search, int block, int pieceCount) {
+        if (isTree(block)) return pieceCount;
+
+        int mark = marks[block] - markBase;
+
+        // Not found by any search yet
+        if (mark < 0 || mark >= MAX_SEARCHES) {
+            marks[block] = markBase + search;
+            addSearchBlock(search, block);
+            return pieceCount;
+        }
+
+        // Most blocks were already found by the same search
+        if (mark == search) return pieceCount;
+
+        int piece = findPiece(search);
+        int otherPiece = findPiece(mark);
+        if (piece == otherPiece) return pieceCount;
+
+        searchPieces[otherPiece] = piece;
+        return pieceCount - 1;
+    }
+
+    // Returns if every search of a piece has run out of blocks
+    private boolean isPieceFinished(int piece, int searchCount) {
+        for (int search = 0; search < searchCount; search++) {
+            if (findPiece(search) == piece && searchHeads[search] < searchSizes[search])
+                return false;
+        }
+
+        return true;
+    }
+
+    // Gives every block of a piece a new label and takes them out of the old component
+    // No other search can reach the piece, so its searches are only marked as finished
+    private void labelPiece(int root, int piece, int searchCount) {
+        int label = newLabel();
+        componentCount++;
+
+        for (int search = 0; search < searchCount; search++) {
+            if (findPiece(search) != piece) continue;
+
+            for (int i = 0; i < searchSizes[search]; i++) {
+                labels[searchBlocks[search][i]] = label;
+            }
+
+            sizes[label] += searchSizes[search];
+            sizes[root] -= searchSizes[search];
+            finishedSearches[search] = true;
+        }
+    }
+
+    // Returns the piece a search belongs to
+    private int findPiece(int search) {
+        while (searchPieces[search] != search) {
+            search = searchPieces[search];
+        }
+
+        return search;
+    }
+
+    // Adds a block to the end of a search, growing its buffer if needed
+    private void addSearchBlock(int search, int block) {
+        if (searchSizes[search] == searchBlocks[search].length)
+            searchBlocks[search] = Arrays.copyOf(searchBlocks[search], searchSizes[search] * 2);
+
+        searchBlocks[search][searchSizes[search]++] = block;
+    }
+
+    // Moves to new marks, so no block is marked by an earlier search
+    private void startMarks() {
+        markBase += MAX_SEARCHES;
+
+        // Clears every mark once the bases run out, which is very rare
+        if (markBase < MAX_SEARCHES || markBase > Integer.MAX_VALUE - MAX_SEARCHES) {
+            Arrays.fill(marks, 0);
+            markBase = MAX_SEARCHES;
+        }
+    }
+
+    // Writes the Trails beside a block into the array, and returns how many there are
+    private int getTrailNeighbours(int index, int[] neighbours) {
+        int x = index % width;
+        int count = 0;
+
+        if (x > 0 && !isTree(index - 1))
+            neighbours[count++] = index - 1;
+        if (x < width - 1 && !isTree(index + 1))
+            neighbours[count++] = index + 1;
+        if (index >= width && !isTree(index - width))
+            neighbours[count++] = index - width;
+        if (index < labels.length - width && !isTree(index + width))
+            neighbours[count++] = index + width;
+
+        return count;
+    }
+
+    // Creates a new label that is its own root, with no blocks
+    private int newLabel() {
+        if (labelCount == parents.length) {
+            parents = Arrays.copyOf(parents, parents.length * 2);
+            sizes = Arrays.copyOf(sizes, parents.length);
+        }
+
+        parents[labelCount] = labelCount;
+        sizes[labelCount] = 0;
+        return labelCount++;
+    }
+
+    // Returns the root of a label
+    // Halves the path to the root as it goes
+    private int find(int label) {
+        while (parents[label] != label) {
+            parents[label] = parents[parents[label]];
+            label = parents[label];
+        }
+
+        return label;
+    }
+
+    // Joins two roots, the smaller component points to the larger one
+    // Returns the root of the joined component
+    private int union(int first, int second) {
+        if (sizes[first] < sizes[second]) {
+            int smaller = first;
+            first = second;
+            second = smaller;
+        }
+
+        parents[second] = first;
+        sizes[first] += sizes[second];
+        return first;
+    }
+
+    // Returns if the block at the index is a Tree
+    private boolean isTree(int index) {
+        return (trees[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // Returns the component of a block, ConnectedComponents.NO_COMPONENT if it is a Tree
+    // Component numbers can change whenever a block changes
+    public int getComponent(int index) {
+        return labels[index] == ConnectedComponents.NO_COMPONENT ? ConnectedComponents.NO_COMPONENT : find(labels[index]);
+    }
+
+    // Returns if a path of Trails joins the two blocks
+    public boolean isConnected(int first, int second) {
+        int component = getComponent(first);
+        return component != ConnectedComponents.NO_COMPONENT && component == getComponent(second);
+    }
+
+    public boolean isConnected(MazePanel.Coordinate2D first, MazePanel.Coordinate2D second) {
+        return isConnected(first.y() * width + first.x(), second.y() * width + second.x());
+    }
+
+    // Returns the number of blocks in the component of a block, zero if it is a Tree
+    public int getComponentSize(int index) {
+        int component = getComponent(index);
+        return component == ConnectedComponents.NO_COMPONENT ? 0 : sizes[component];
+    }
+
+    public int getComponentSize(MazePanel.Coordinate2D coordinate) {
+        return getComponentSize(coordinate.y() * width + coordinate.x());
+    }
+
+    // Returns the number of components
+    public int getComponentCount() {
+        return componentCount;
+    }
+}
@@ -0,0 +1,189 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of primitive int elements between 0 and a fixed capacity
+ * Every element knows its position in the heap, so its priority can be decreased in place
+ * Used by the solvers to order packed block indices without boxing
+ *
+ * Elements are ordered by priority, then by tie breaker when the priorities are equal
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class IndexedMinHeap {
+    // Position of an element that is not in the heap
+    private static final int ABSENT = -1;
+
+    // Elements in heap order
+    private int[] heap;
+
+    // Priority and tie breaker of the element at each heap position
+    private double[] priorities;
+    private double[] tieBreakers;
+
+    // Position of every element in the heap, ABSENT if it is not in the heap
+    private final int[] positions;
+
+    // Number of elements in the heap
+    private int size;
+
+    // Constructor
+    // Elements can be any int from 0 up to but not including capacity
+    public IndexedMinHeap(int capacity) {
+        if (capacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative");
+
+        positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+
+        // The heap itself starts small and grows as needed
+        int initialLength = Math.min(capacity, 64);
+        heap = new int[initialLength];
+        priorities = new double[initialLength];
+        tieBreakers = new double[initialLength];
+    }
+
+    // Adds an element, or moves it up if its new priority is lower
+    public void addOrDecrease(int element, double priority, double tieBreaker) {
+        int position = positions[element];
+
+        // New elements are added to the bottom of the heap
+        if (position == ABSENT) {
+            if (size == heap.length)
+                grow();
+
+            position = size++;
+            heap[position] = element;
+            positions[element] = position;
+        }
+
+        // An element already in the heap cannot have its priority increased
+        else if (compare(priority, tieBreaker, priorities[position], tieBreakers[position]) > 0)
+            throw new IllegalArgumentException("Priority can only be decreased");
+
+        priorities[position] = priority;
+        tieBreakers[position] = tieBreaker;
+        siftUp(position);
+    }
+
+    // Removes and returns the element with the lowest priority
+    public int poll() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+
+        int element = heap[0];
+        positions[element] = ABSENT;
+        size--;
+
+        // Moves the last element to the top and sifts it down
+        if (size > 0) {
+            move(size, 0);
+            siftDown(0);
+        }
+
+        return element;
+    }
+
+    // Returns the lowest priority without removing its element
+    public double peekPriority() {
+        if (size == 0)
+            throw new NoSuchElementException("Heap is empty");
+
+        return priorities[0];
+    }
+
+    // Returns if the element is currently in the heap
+    public boolean contains(int element) {
+        return positions[element] != ABSENT;
+    }
+
+    // Removes every element
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Moves the element at the position up until its parent is lower
+    private void siftUp(int position) {
+        int element = heap[position];
+        double priority = priorities[position];
+        double tieBreaker = tieBreakers[position];
+
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+
+            // Stops once the parent is not higher
+            if (compare(priority, tieBreaker, priorities[parent], tieBreakers[parent]) >= 0) break;
+
+            move(parent, position);
+            position = parent;
+        }
+
+        place(element, priority, tieBreaker, position);
+    }
+
+    // Moves the element at the position down until both children are higher
+    private void siftDown(int position) {
+        int element = heap[position];
+        double priority = priorities[position];
+        double tieBreaker = tieBreakers[position];
+
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) break;
+
+            // Uses the lower of the two children
+            if (child + 1 < size &&
+                    compare(priorities[child + 1], tieBreakers[child + 1], priorities[child], tieBreakers[child]) < 0)
+                child++;
+
+            // Stops once the lower child is not lower than the element
+            if (compare(priorities[child], tieBreakers[child], priority, tieBreaker) >= 0) break;
+
+            move(child, position);
+            position = child;
+        }
+
+        place(element, priority, tieBreaker, position);
+    }
+
+    // Copies the element at one heap position to another
+    private void move(int from, int to) {
+        place(heap[from], priorities[from], tieBreakers[from], to);
+    }
+
+    // Puts an element at a heap position
+    private void place(int element, double priority, double tieBreaker, int position) {
+        heap[position] = element;
+        priorities[position] = priority;
+        tieBreakers[position] = tieBreaker;
+        positions[element] = position;
+    }
+
+    // Compares two priorities, using the tie breakers if they are equal
+    private static int compare(double priority, double tieBreaker, double otherPriority, double otherTieBreaker) {
+        int result = Double.compare(priority, otherPriority);
+        return result != 0 ? result : Double.compare(tieBreaker, otherTieBreaker);
+    }
+
+    // Doubles the length of the heap arrays, up to the capacity
+    private void grow() {
+        int newLength = (int) Math.min((long) Math.max(heap.length, 1) * 2, positions.length);
+
+        heap = Arrays.copyOf(heap, newLength);
+        priorities = Arrays.copyOf(priorities, newLength);
+        tieBreakers = Arrays.copyOf(tieBreakers, newLength);
+    }
+}
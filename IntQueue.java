@@ -0,0 +1,93 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * First in first out queue of primitive ints
+ * Stored in a ring buffer that doubles in size when full
+ * Used by the solvers to queue packed block indices without boxing
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class IntQueue {
+    // Default number of elements the buffer starts with
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // Ring buffer of elements, its length is always a power of two
+    private int[] elements;
+
+    // Index of the first element in the buffer
+    private int head;
+
+    // Number of elements in the queue
+    private int size;
+
+    // Constructor with the default capacity
+    public IntQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // Constructor with an initial capacity
+    public IntQueue(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative");
+
+        // Rounds the capacity up to a power of two so indices can wrap with a mask
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity - 1, 1)) << 1;
+        elements = new int[capacity];
+    }
+
+    // Adds a value to the back of the queue
+    public void add(int value) {
+        // Doubles the buffer if it is full
+        if (size == elements.length)
+            grow();
+
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    // Removes and returns the value at the front of the queue
+    public int poll() {
+        if (size == 0)
+            throw new NoSuchElementException("Queue is empty");
+
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+
+        return value;
+    }
+
+    // Returns the value at the front of the queue without removing it
+    public int peek() {
+        if (size == 0)
+            throw new NoSuchElementException("Queue is empty");
+
+        return elements[head];
+    }
+
+    // Removes every value, keeping the buffer
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Doubles the length of the buffer
+    // Unwraps the elements so the front of the queue is at index 0
+    private void grow() {
+        int[] newElements = Arrays.copyOfRange(elements, head, head + elements.length * 2);
+        System.arraycopy(elements, 0, newElements, elements.length - head, head);
+
+        elements = newElements;
+        head = 0;
+    }
+}
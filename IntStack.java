@@ -0,0 +1,90 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Last in first out stack of primitive ints
+ * Stored in an array that doubles in size when full
+ * Used by the solvers to stack packed block indices without boxing
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class IntStack {
+    // Default number of elements the array starts with
+    private static final int DEFAULT_CAPACITY = 64;
+
+    // Elements from the bottom of the stack to the top
+    private int[] elements;
+
+    // Number of elements in the stack
+    private int size;
+
+    // Constructor with the default capacity
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // Constructor with an initial capacity
+    // A stack that never grows past its capacity never allocates again
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Capacity cannot be negative");
+
+        elements = new int[initialCapacity];
+    }
+
+    // Adds a value to the top of the stack
+    public void push(int value) {
+        // Doubles the array if it is full
+        if (size == elements.length)
+            elements = Arrays.copyOf(elements, Math.max(elements.length * 2, 1));
+
+        elements[size++] = value;
+    }
+
+    // Removes and returns the value at the top of the stack
+    public int pop() {
+        if (size == 0)
+            throw new NoSuchElementException("Stack is empty");
+
+        return elements[--size];
+    }
+
+    // Returns the value at the top of the stack without removing it
+    public int peek() {
+        if (size == 0)
+            throw new NoSuchElementException("Stack is empty");
+
+        return elements[size - 1];
+    }
+
+    // Returns the value at a position, where 0 is the bottom of the stack
+    public int get(int position) {
+        if (position < 0 || position >= size)
+            throw new IndexOutOfBoundsException("Position " + position + " out of bounds");
+
+        return elements[position];
+    }
+
+    // Removes and returns the value at a position, moving the top value into its place
+    // Does not keep the order of the stack, but never shifts the values above it
+    public int swapRemove(int position) {
+        int value = get(position);
+        elements[position] = elements[--size];
+
+        return value;
+    }
+
+    // Removes every value, keeping the array
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,256 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * SolverEngine which uses Jump Point Search
+ * Finds the same shortest paths as A* on grids with four directions of movement
+ *
+ * Instead of discovering every neighbour, the ranger jumps in straight lines
+ * and only stops at jump points, where a path could turn to reach new blocks
+ * Horizontal jumps stop beside a Tree that hides a block above or below,
+ * vertical jumps also stop wherever a horizontal jump would find a jump point
+ * Only jump points are added to the heap, so big open areas are crossed in one step
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class JumpPointSolver extends SolverEngine {
+    // Distance of a block that has not been reached yet
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    // Result of a jump that did not find a jump point
+    private static final int NO_JUMP_POINT = -1;
+
+    // Coordinates of the cabin, used by the heuristic and to stop jumps
+    private final int cabinX;
+    private final int cabinY;
+
+    // Shortest known distance from the start to every jump point
+    private final int[] distances;
+
+    // Previous jump point on the shortest known path to every jump point
+    // The start is its own parent
+    private final int[] parents;
+
+    // Jump points waiting to be explored, ordered by estimated path length
+    private final IndexedMinHeap openBlocks;
+
+    // Packed index of the jump point the ranger is on
+    private int rangerIndex;
+
+    // Number of blocks looked at while jumping
+    private long scannedCount;
+
+    // Constructor
+    public JumpPointSolver(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+        // Calls SolverEngine constructor
+        super(maze, startIndex);
+
+        // Jumps stop at the cabin, or nowhere if there is none
+        int cabinIndex = maze.getCabinIndex();
+        cabinX = cabinIndex == MazeGrid.NO_CABIN ? -1 : maze.getX(cabinIndex);
+        cabinY = cabinIndex == MazeGrid.NO_CABIN ? -1 : maze.getY(cabinIndex);
+
+        // No block has been reached yet
+        distances = new int[maze.getCellCount()];
+        parents = new int[maze.getCellCount()];
+        Arrays.fill(distances, UNREACHED);
+
+        // The search starts at the ranger
+        rangerIndex = maze.index(startIndex);
+        distances[rangerIndex] = 0;
+        parents[rangerIndex] = rangerIndex;
+
+        openBlocks = new IndexedMinHeap(maze.getCellCount());
+        open(rangerIndex);
+    }
+
+    @Override
+    protected int nextStep() {
+        // If there are no jump points left to explore, the maze cannot be solved
+        if (openBlocks.isEmpty()) {
+            finish(false);
+            return NO_CHANGE;
+        }
+
+        // Moves the ranger to the most promising jump point
+        // It faces the direction it came from
+        rangerIndex = openBlocks.poll();
+        int parent = parents[rangerIndex];
+        currentDirection = jumpDirection(parent, rangerIndex);
+
+        int rangerX = maze.getX(rangerIndex);
+        int rangerY = maze.getY(rangerIndex);
+        visit(rangerIndex);
+
+        // Successfully found the cabin, the search is over
+        if (maze.getState(rangerIndex) == Trail.TraversalState.CABIN) {
+            finish(true);
+            return NO_CHANGE;
+        }
+
+        // Jumps in every direction that a shortest path could continue in
+        for (MazePanel.Directions direction : DIRECTIONS) {
+            if (isPruned(parent, direction)) continue;
+
+            int jumpPoint = jump(rangerX, rangerY, direction);
+            if (jumpPoint == NO_JUMP_POINT) continue;
+
+            // Jumps are straight, so their length is the distance between the blocks
+            int newDistance = distances[rangerIndex]
+                    + Math.abs(maze.getX(jumpPoint) - rangerX)
+                    + Math.abs(maze.getY(jumpPoint) - rangerY);
+
+            // Skips the jump point unless this is a shorter path to it
+            if (newDistance >= distances[jumpPoint]) continue;
+
+            // Saves the shorter path, and shows the direction it was reached in
+            // The cabin keeps its state
+            distances[jumpPoint] = newDistance;
+            parents[jumpPoint] = rangerIndex;
+            if (maze.getState(jumpPoint) != Trail.TraversalState.CABIN)
+                setState(jumpPoint, discoveredState(direction));
+
+            open(jumpPoint);
+        }
+
+        // Every jump has been made, so this jump point is fully explored
+        setState(rangerIndex, Trail.TraversalState.EXPLORED);
+        return rangerIndex;
+    }
+
+    // Returns if a jump in the direction can be skipped, given the parent of the ranger
+    // A shortest path never turns back, and horizontal moves only continue horizontally or turn
+    // Nothing is pruned at the start, since it has no parent
+    private boolean isPruned(int parent, MazePanel.Directions direction) {
+        if (parent == rangerIndex) return false;
+
+        MazePanel.Directions arrival = jumpDirection(parent, rangerIndex);
+
+        // Never jumps straight back towards the parent
+        return direction.getMove().x() == -arrival.getMove().x()
+                && direction.getMove().y() == -arrival.getMove().y();
+    }
+
+    // Jumps from a block in a direction until a jump point is found
+    // Returns the packed index of the jump point, or NO_JUMP_POINT if a Tree or the edge was hit
+    private int jump(int x, int y, MazePanel.Directions direction) {
+        int dx = direction.getMove().x();
+        int dy = direction.getMove().y();
+
+        // Horizontal jumps only look for forced neighbours
+        if (dy == 0)
+            return jumpHorizontally(x + dx, y, dx);
+
+        // Vertical jumps also stop wherever a horizontal jump finds a jump point
+        while (true) {
+            y += dy;
+            if (!maze.isTrail(x, y)) return NO_JUMP_POINT;
+            scannedCount++;
+
+            // The cabin is always a jump point
+            if (x == cabinX && y == cabinY) return maze.index(x, y);
+
+            // A forced neighbour is a block to the side whose block behind is a Tree
+            // The only shortest paths to it turn here
+            if ((maze.isTrail(x - 1, y) && !maze.isTrail(x - 1, y - dy)) ||
+                    (maze.isTrail(x + 1, y) && !maze.isTrail(x + 1, y - dy)))
+                return maze.index(x, y);
+
+            // Paths may turn here to reach a jump point to the left or right
+            if (jumpHorizontally(x - 1, y, -1) != NO_JUMP_POINT ||
+                    jumpHorizontally(x + 1, y, 1) != NO_JUMP_POINT)
+                return maze.index(x, y);
+        }
+    }
+
+    // Jumps horizontally starting at the given block
+    // Returns the packed index of the jump point, or NO_JUMP_POINT if a Tree or the edge was hit
+    private int jumpHorizontally(int x, int y, int dx) {
+        while (maze.isTrail(x, y)) {
+            scannedCount++;
+
+            // The cabin is always a jump point
+            if (x == cabinX && y == cabinY) return maze.index(x, y);
+
+            // A forced neighbour is a block above or below whose block behind is a Tree
+            if ((maze.isTrail(x, y - 1) && !maze.isTrail(x - dx, y - 1)) ||
+                    (maze.isTrail(x, y + 1) && !maze.isTrail(x - dx, y + 1)))
+                return maze.index(x, y);
+
+            x += dx;
+        }
+
+        return NO_JUMP_POINT;
+    }
+
+    // Returns the direction of a straight jump between two blocks
+    private MazePanel.Directions jumpDirection(int from, int to) {
+        int dx = Integer.signum(maze.getX(to) - maze.getX(from));
+        int dy = Integer.signum(maze.getY(to) - maze.getY(from));
+
+        for (MazePanel.Directions direction : DIRECTIONS) {
+            if (direction.getMove().x() == dx && direction.getMove().y() == dy)
+                return direction;
+        }
+
+        return DEFAULT_DIRECTION;
+    }
+
+    // Adds a jump point to the open blocks, or updates its priority
+    private void open(int index) {
+        // Manhattan distance to the cabin, zero if there is no cabin
+        int estimate = cabinX < 0 ? 0 : Math.abs(cabinX - maze.getX(index)) + Math.abs(cabinY - maze.getY(index));
+
+        // Ties are broken by the lower estimate, which prefers blocks closer to the cabin
+        openBlocks.addOrDecrease(index, distances[index] + estimate, estimate);
+    }
+
+    // Follows the jump points back from the cabin to the start
+    // Fills in the straight lines between jump points
+    @Override
+    public List<MazePanel.Coordinate2D> getPath() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return List.of();
+
+        List<MazePanel.Coordinate2D> jumpPoints = tracePath(parents, rangerIndex);
+        ArrayList<MazePanel.Coordinate2D> path = new ArrayList<>();
+        path.add(jumpPoints.get(0));
+
+        for (int i = 1; i < jumpPoints.size(); i++) {
+            MazePanel.Coordinate2D from = jumpPoints.get(i - 1);
+            MazePanel.Coordinate2D to = jumpPoints.get(i);
+
+            int dx = Integer.signum(to.x() - from.x());
+            int dy = Integer.signum(to.y() - from.y());
+
+            // Walks one block at a time to the next jump point
+            int x = from.x();
+            int y = from.y();
+            while (x != to.x() || y != to.y()) {
+                x += dx;
+                y += dy;
+                path.add(new MazePanel.Coordinate2D(x, y));
+            }
+        }
+
+        return path;
+    }
+
+    // The distance to the cabin is the number of moves, which is one less than the number of blocks
+    @Override
+    public int getPathLength() {
+        return getOutcome() == Outcome.PATH_FOUND ? distances[rangerIndex] + 1 : 0;
+    }
+
+    @Override
+    public MazePanel.Coordinate2D getRangerIndex() {
+        return maze.getCoordinate(rangerIndex);
+    }
+
+    // Getter for the number of blocks looked at while jumping
+    public long getScannedCount() {
+        return scannedCount;
+    }
+}
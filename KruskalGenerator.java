@@ -0,0 +1,105 @@
+import java.util.SplittableRandom;
+
+/**
+ * MazeGenerator which uses a randomized version of Kruskal's algorithm
+ * Starts with every cell on its own, then goes through the walls between cells in a random order
+ * A wall is carved if the cells on either side are not joined yet, which is checked with union find
+ * Gives mazes with short, evenly spread dead ends
+ *
+ * Walls are numbered, the walls to the right of each cell first and then the walls below
+ * Instead of shuffling a list of every wall, the numbers are put in a random order by a seeded bijection,
+ * so the only memory used is one int of union find per cell
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class KruskalGenerator extends MazeGenerator {
+    // Number of mixing rounds of the bijection
+    private static final int ROUNDS = 4;
+
+    // Constructor
+    public KruskalGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected void generate(MazeGrid maze, SplittableRandom random) {
+        maze.fill(true);
+
+        int cellsX = cellCount(maze.getWidth());
+        int cellsY = cellCount(maze.getHeight());
+        int cells = cellsX * cellsY;
+
+        // Every cell starts as a Trail in a set of its own
+        int[] parents = new int[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            parents[cell] = cell;
+            maze.setTree(cellBlock(maze, cell % cellsX, cell / cellsX), false);
+        }
+
+        long rightWalls = (long) (cellsX - 1) * cellsY;
+        long wallCount = rightWalls + (long) cellsX * (cellsY - 1);
+        if (wallCount == 0) return;
+
+        // The bijection mixes numbers with just enough bits to number every wall
+        int bits = Math.max(1, 64 - Long.numberOfLeadingZeros(wallCount - 1));
+        long mask = (1L << bits) - 1;
+        long[] multipliers = new long[ROUNDS];
+        long[] increments = new long[ROUNDS];
+
+        for (int round = 0; round < ROUNDS; round++) {
+            // Odd multipliers can be undone, so every round is a bijection
+            multipliers[round] = random.nextLong() | 1;
+            increments[round] = random.nextLong();
+        }
+
+        // A maze is finished once every cell is joined, which takes one wall fewer than there are cells
+        int joins = 0;
+        for (long number = 0; number <= mask && joins < cells - 1; number++) {
+            long wall = number;
+            for (int round = 0; round < ROUNDS; round++) {
+                wall ^= wall >>> (bits / 2 + 1);
+                wall = (wall * multipliers[round] + increments[round]) & mask;
+            }
+
+            // Numbers past the last wall are skipped, so each wall is still visited once
+            if (wall >= wallCount) continue;
+
+            // Finds the cells on either side of the wall
+            int first;
+            int second;
+            if (wall < rightWalls) {
+                first = (int) (wall / (cellsX - 1) * cellsX + wall % (cellsX - 1));
+                second = first + 1;
+            }
+
+            else {
+                first = (int) (wall - rightWalls);
+                second = first + cellsX;
+            }
+
+            // Carves the wall if the cells are not joined yet
+            int firstRoot = find(parents, first);
+            int secondRoot = find(parents, second);
+            if (firstRoot == secondRoot) continue;
+
+            parents[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot);
+            joins++;
+
+            int firstBlock = cellBlock(maze, first % cellsX, first / cellsX);
+            int secondBlock = cellBlock(maze, second % cellsX, second / cellsX);
+            maze.setTree((firstBlock + secondBlock) / 2, false);
+        }
+    }
+
+    // Returns the root cell of the set a cell is in
+    // Halves the path to the root as it goes
+    private static int find(int[] parents, int cell) {
+        while (parents[cell] != cell) {
+            parents[cell] = parents[parents[cell]];
+            cell = parents[cell];
+        }
+
+        return cell;
+    }
+}
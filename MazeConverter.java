@@ -0,0 +1,44 @@
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Command line converter between the text and binary maze formats
+ * Reads a maze file of either format and writes it in the format of the output file,
+ * binary if it ends in the binary extension and text otherwise
+ * Prints the size of both files
+ *
+ * Usage: java MazeConverter input output
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class MazeConverter {
+    // Converts the input file to the output file
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: java MazeConverter input output");
+            System.err.println("Output files ending in " + MazeFileHandler.BINARY_EXTENSION + " are binary, others are text");
+            System.exit(2);
+        }
+
+        File input = new File(args[0]);
+        File output = new File(args[1]);
+
+        // The format of the input is found from its magic bytes
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+        try {
+            fileHandler.readMaze(input);
+            fileHandler.writeMaze(output);
+        }
+
+        // Lets the user know the conversion failed
+        catch (IOException e) {
+            System.err.println("Could not convert maze: " + e.getMessage());
+            System.exit(1);
+        }
+
+        System.out.printf("%dx%d maze, %d bytes -> %d bytes (%.1fx)%n",
+                fileHandler.getMazeWidth(), fileHandler.getMazeHeight(), input.length(), output.length(),
+                (double) input.length() / output.length());
+    }
+}
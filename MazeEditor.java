@@ -2,6 +2,7 @@ import javax.swing.Icon;
 import javax.swing.ImageIcon;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
+import javax.swing.JLabel;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
 import javax.swing.JScrollPane;
@@ -20,7 +21,7 @@ import java.io.IOException;
  * Contains editor JPanel and file handler for maze updates
  *
  * @author Asif Rahman
- * @version 28/05/2023
+ * @version 17/10/2026
  */
 public class MazeEditor extends JDialog implements ListSelectionListener {
 
@@ -36,6 +37,9 @@ public class MazeEditor extends JDialog implements ListSelectionListener {
     // JList of icons for the user to choose when editing
     private final JList<Icon> iconList;
 
+    // Label that shows if the cabin can be reached from the ranger
+    private final JLabel connectivityLabel;
+
     // File handler to save and load mazes to solve
     private final MazeFileHandler fileHandler;
 
@@ -54,14 +58,18 @@ public class MazeEditor extends JDialog implements ListSelectionListener {
         // Sets editor as a modal window
         setModalityType(ModalityType.APPLICATION_MODAL);
         
-        // Initializes editor panel using dimensions from pathfinder and maze from file handler
-        editorPanel = new EditorPanel(pathfinder.getMazeHeight(), pathfinder.getMazeWidth(),
-                pathfinder.getPanelHeight(), pathfinder.getPanelWidth(), fileHandler.getMaze());
+        // Initializes editor panel using the panel size from pathfinder and maze from file handler
+        editorPanel = new EditorPanel(pathfinder.getPanelHeight(), pathfinder.getPanelWidth(), fileHandler.getMaze());
 
         // Sets cabin and ranger indices in editorPanel using the file handler
         editorPanel.setCabinIndex(fileHandler.getCabinIndex());
         editorPanel.setStartIndex(fileHandler.getRangerIndex());
 
+        // Shows if the cabin can be reached, updated whenever the maze is edited
+        connectivityLabel = new JLabel();
+        editorPanel.setConnectivityListener(this::updateConnectivityLabel);
+        updateConnectivityLabel();
+
         // Gets an array of icons from the EditorStates enum
         ImageIcon[] editorIcons = EditorPanel.EditorStates.getDrawableBlockIcons();
 
@@ -87,8 +95,13 @@ public class MazeEditor extends JDialog implements ListSelectionListener {
         // Also passes in the width of the panel and the ButtonUI
         buttonPanel = new ButtonPanel(buttonNames, buttonActions, editorPanel.getWidth(), ui);
 
+        // Mazes too big for the panel can be scrolled
+        JScrollPane editorScrollPane = new JScrollPane(editorPanel);
+        editorScrollPane.setBorder(null);
+
         // Adds components and packs
-        getContentPane().add(editorPanel);
+        getContentPane().add(connectivityLabel, BorderLayout.NORTH);
+        getContentPane().add(editorScrollPane);
         getContentPane().add(buttonPanel, BorderLayout.SOUTH);
         getContentPane().add(new JScrollPane(iconList), BorderLayout.EAST);
         pack();
@@ -108,6 +121,16 @@ public class MazeEditor extends JDialog implements ListSelectionListener {
             return false;
         }
 
+        // Warns the user if the maze cannot be solved, but still lets them apply it
+        // Skipped while the maze is still being checked, rather than checking it here
+        if (editorPanel.isConnectivityKnown() && !editorPanel.isCabinReachable()) {
+            JOptionPane.showMessageDialog(this,
+                    "The cabin cannot be reached from the ranger.\n" +
+                            "The pathfinder will not find a path in this maze.",
+                    "Unreachable Cabin",
+                    JOptionPane.WARNING_MESSAGE);
+        }
+
         // Double checks that the user wants to apply the maze
         int choice = JOptionPane.showConfirmDialog(this, "Are you sure you would like to apply the maze?");
 
@@ -129,6 +152,9 @@ public class MazeEditor extends JDialog implements ListSelectionListener {
             // Gets the ranger index from fileHandler and sets it in pathfinder
             pathfinder.setStartIndex(fileHandler.getRangerIndex());
 
+            // Lets pathfinder end straight away if the cabin cannot be reached
+            pathfinder.setComponents(fileHandler.getComponents());
+
             // Lets user know pathfinder has been updated
             JOptionPane.showMessageDialog(this, "Maze updated in pathfinder.");
 
@@ -141,6 +167,19 @@ public class MazeEditor extends JDialog implements ListSelectionListener {
         return false;
     }
 
+    // Updates the label to show if the cabin can be reached and how much of the maze the ranger can reach
+    private void updateConnectivityLabel() {
+        if (!editorPanel.isMazeValid())
+            connectivityLabel.setText("Place a ranger and a cabin.");
+
+        else if (!editorPanel.isConnectivityKnown())
+            connectivityLabel.setText("Checking if the cabin can be reached...");
+
+        else connectivityLabel.setText(String.format("%s The ranger can reach %d blocks.",
+                    editorPanel.isCabinReachable() ? "Cabin can be reached." : "Cabin cannot be reached!",
+                    editorPanel.getRangerAreaSize()));
+    }
+
     // Method to read new maze in EditorPanel
     public void readMazeFromFile(File mazeFile) {
         // Tries to read the maze from file handler
@@ -160,6 +199,8 @@ public class MazeEditor extends JDialog implements ListSelectionListener {
             pathfinder.resetPathFinder();
 
             // Set visible to let the user know that something changed in the editor
+            // Packs first since the new maze may have different dimensions
+            pack();
             setVisible(true);
         }
 
@@ -1,16 +1,38 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.PrintWriter;
-import java.util.Scanner;
+import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
 
 /**
  * Reads and writes Mazes to files
  * Mazes include trails, trees, location of the ranger and cabin
- * Getters and setters create deep copies so that file handler is unaffected by other classes
+ * Getters and setters share copy on write snapshots, so that file handler is unaffected by other classes
+ * The maze is held as a MazeGrid, so no PathBlocks are created
+ * Mazes can have any dimensions, which are found from the file when reading
+ * Big maze files are memory mapped instead of read through a buffer
+ * Files are written to a temporary file first, which then replaces the maze file
+ *
+ * Mazes can also be saved in a compact binary format, which is found by its magic bytes when reading
+ * It has a header with the dimensions, ranger and cabin, followed by the Trees
+ * The Trees are either a bitset or run lengths of Trails and Trees, whichever is smaller
  *
  * @author Asif Rahman
- * @version 01/06/2023
+ * @version 17/10/2026
  */
 public class MazeFileHandler
 {
@@ -37,16 +59,51 @@ public class MazeFileHandler
         }
     }
     
+    // Number of bytes read from the file at a time
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // Files at least this big are memory mapped instead of read through a buffer
+    private static final long MAPPED_THRESHOLD = 1 << 24;
+
+    // Largest part of a file that is mapped at once
+    private static final long MAPPED_REGION_SIZE = 1 << 30;
+
+    // Codes of each maze state as bytes
+    // Static constants, so the JIT does not load them from the enum for every byte
+    private static final byte TRAIL_CODE = (byte) MazeStates.TRAIL.getCode();
+    private static final byte TREE_CODE = (byte) MazeStates.TREE.getCode();
+    private static final byte RANGER_CODE = (byte) MazeStates.RANGER.getCode();
+    private static final byte CABIN_CODE = (byte) MazeStates.CABIN.getCode();
+
+    // Bytes that end a line in a maze file
+    // A carriage return before a new line is ignored
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    // Index used before a ranger or cabin is found
+    private static final int NOT_FOUND = -1;
+
+    // First bytes of every binary maze file, "PFMZ"
+    private static final int BINARY_MAGIC = 0x50464D5A;
+
+    // Version of the binary format that is written
+    private static final byte BINARY_VERSION = 1;
+
+    // Ways the Trees can be stored in a binary maze file
+    private static final byte BITSET_ENCODING = 0;
+    private static final byte RUN_LENGTH_ENCODING = 1;
+
+    // Extension of files that are written in the binary format
+    public static final String BINARY_EXTENSION = ".pfm";
+
+    // Functional interface for writing the contents of a maze file to a channel
+    private interface MazeWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
     // Maze to parse, read and write from/to file
-    private PathBlock[][] maze;
-    
-    // Dimensions of the maze
-    private final int mazeHeight;
-    private final int mazeWidth;
-    
-    // Dimensions of each block
-    private final int blockHeight;
-    private final int blockWidth;
+    // Held as a snapshot, so handing out and saving grids never copies the blocks
+    private MazeSnapshot maze;
 
     // The index of the ranger
     private MazePanel.Coordinate2D rangerIndex;
@@ -54,237 +111,451 @@ public class MazeFileHandler
     // The index of the cabin
     private MazePanel.Coordinate2D cabinIndex;
 
+    // Connected components of the maze, null until they are needed
+    private ConnectedComponents components;
 
-    // Constructor that takes dimensions
-    public MazeFileHandler(int mazeHeight, int mazeWidth, int panelHeight, int panelWidth) {
-        // Sets maze and panel dimensions
-        this.mazeHeight = mazeHeight;
-        this.mazeWidth = mazeWidth;
-
-        // Calculates dimensions of each block
-        blockHeight = panelHeight / mazeHeight;
-        blockWidth = panelWidth / mazeWidth;
 
+    // Constructor that takes the dimensions of the default maze
+    // Mazes read from files can have any dimensions
+    public MazeFileHandler(int mazeHeight, int mazeWidth) {
         // Sets default maze
-        setDefaultMaze();
+        setDefaultMaze(mazeHeight, mazeWidth);
     }
 
     // Sets the maze to the "default maze"
     // Every block is a Trail, with a ranger and cabin in the
     // top left and bottom right respectively
-    private void setDefaultMaze() {
-        maze = new PathBlock[mazeHeight][mazeWidth];
-
-        // For each block in each row
-        for (int i = 0; i < mazeHeight; i++) {
-            for (int j = 0; j < mazeWidth; j++) {
-                // Sets the block to a new Trail
-                maze[i][j] = new Trail(j * blockWidth, i * blockHeight, blockWidth, blockHeight);
-            }
-        }
+    private void setDefaultMaze(int mazeHeight, int mazeWidth) {
+        // Every block of a new grid is a Trail
+        MazeGrid newMaze = new MazeGrid(mazeHeight, mazeWidth);
 
         // Ranger starts at 0,0 by default
         rangerIndex = new MazePanel.Coordinate2D(0, 0);
 
         // Cabin starts at (height - 1, width - 1) by default
-        // Cast it to a Trail to set its TraversalState
-        Trail cabinBlock = (Trail)maze[mazeHeight-1][mazeWidth-1];
-        cabinBlock.setTraversalState(Trail.TraversalState.CABIN);
+        newMaze.setState(mazeWidth - 1, mazeHeight - 1, Trail.TraversalState.CABIN);
+        replaceMaze(newMaze.snapshot());
 
         // Saves cabin index
         cabinIndex = new MazePanel.Coordinate2D(mazeWidth - 1, mazeHeight - 1);
     }
     
     // Reads maze from maze file
+    // Big files are memory mapped, smaller ones are read through a buffer
     public void readMaze(File mazeFile) throws IOException {
-        // ArrayList to hold every line read
-        ArrayList<String> lines = new ArrayList<>();
-
-        // Scanner to read from file
-        // Try block to ensure scanner is closed
-        try(Scanner scanner = new Scanner(mazeFile)) {
+        readMaze(mazeFile, mazeFile.length() >= MAPPED_THRESHOLD);
+    }
 
-            // While there are lines to read from the file
-            while (scanner.hasNextLine()) {
-                // Inputs the line
-                String line = scanner.nextLine();
+    // Reads maze from maze file, memory mapping it if asked to
+    // The dimensions come from the file, every line must be as long as the first
+    // The file is read in one pass straight into a bitset of Trees, without creating a String per line
+    // Binary maze files are already small, so they are never mapped
+    public void readMaze(File mazeFile, boolean memoryMapped) throws IOException {
+        if (isBinaryMaze(mazeFile)) {
+            readBinaryMaze(mazeFile);
+            return;
+        }
 
-                // If the line isn't the same length as the width, throw an exception
-                if (line.length() != mazeWidth)
-                    throw new IOException("Unexpected width of maze");
+        MazeParser parser = new MazeParser();
+        byte[] bytes = new byte[BUFFER_SIZE];
+
+        // Try block to ensure the channel is closed
+        try (FileChannel channel = FileChannel.open(mazeFile.toPath(), StandardOpenOption.READ)) {
+            if (memoryMapped) {
+                // Maps the file one region at a time, since a mapping is limited to 2 GB
+                long size = channel.size();
+                for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+                    MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(MAPPED_REGION_SIZE, size - position));
+
+                    // Copies the mapped pages out in bulk, without a system call per read
+                    while (region.hasRemaining()) {
+                        int length = Math.min(bytes.length, region.remaining());
+                        region.get(bytes, 0, length);
+                        parser.parse(bytes, length);
+                    }
+                }
+            }
 
-                // Add the line to the ArrayList
-                lines.add(line);
+            else {
+                // Reads the file one buffer at a time
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                int length;
+                while ((length = channel.read(buffer)) != -1) {
+                    parser.parse(bytes, length);
+                    buffer.clear();
+                }
             }
         }
-        
-        // Verifies the length of the ArrayList is the expected height
-        if (lines.size() != mazeHeight)
-            throw new IOException("Unexpected height of maze");
-        
-        // Creates a new maze
-        PathBlock[][] newMaze = new PathBlock[mazeHeight][mazeWidth];
-        
-        // Creates a new ranger index
-        MazePanel.Coordinate2D newRangerIndex = null;
-
-        // Creates a new cabin index
-        MazePanel.Coordinate2D newCabinIndex = null;
-        
-        // Creates a new maze from file
-        for (int i = 0; i < mazeHeight; i++) {
-            // Gets the current line
-            String line = lines.get(i);
-
-            for (int j = 0; j < mazeWidth; j++) {
-                // Sets the PathBlock to the appropriate type based on character
-                PathBlock newBlock;
-
-                // Character represents a tree, set it to a new tree
-                if (line.charAt(j) == MazeStates.TREE.getCode())
-                    newBlock = new Tree(j * blockWidth, i * blockHeight, blockWidth, blockHeight);
-
-                    // Character represents a trail, make a new Trail
-                else {
-                    newBlock = new Trail(j * blockWidth, i * blockHeight, blockWidth, blockHeight);
-
-                    // It may be a cabin or ranger
-                    // If it's a cabin, set the traversal state of the Trail to CABIN
-                    if (line.charAt(j) == MazeStates.CABIN.getCode()) {
-                        // If foundCabin is already true, there is another cabin
-                        if (newCabinIndex != null)
-                            throw new IOException("Cannot have multiple cabins");
-
-                        // Sets block as cabin and marks a cabin as found
-                        // j is the x, and i the y
-                        ((Trail) newBlock).setTraversalState(Trail.TraversalState.CABIN);
-                        newCabinIndex = new MazePanel.Coordinate2D(j, i);
-                    }
 
-                    // If it's a ranger, set the ranger index
-                    else if (line.charAt(j) == MazeStates.RANGER.getCode()) {
+        // Creates the new maze now that its dimensions are known
+        MazeGrid newMaze = parser.createMaze();
 
-                        // If ranger index isn't null, then another ranger is in the maze
-                        if (newRangerIndex != null)
-                            throw new IOException("Cannot have multiple rangers");
+        // Saves new maze and indices
+        replaceMaze(newMaze.snapshot());
+        rangerIndex = newMaze.getCoordinate(parser.rangerIndex);
+        cabinIndex = newMaze.getCoordinate(parser.cabinIndex);
+    }
+    
+    // Returns if a file starts with the magic bytes of a binary maze
+    private static boolean isBinaryMaze(File mazeFile) throws IOException {
+        try (DataInputStream input = new DataInputStream(new FileInputStream(mazeFile))) {
+            return input.readInt() == BINARY_MAGIC;
+        }
 
-                        newRangerIndex = new MazePanel.Coordinate2D(j, i);
-                    }
+        // Files shorter than the magic bytes are text
+        catch (EOFException e) {
+            return false;
+        }
+    }
 
-                    // The character should be an empty Trail then
-                    // If the character is something else, throw an exception
-                    else if (line.charAt(j) != MazeStates.TRAIL.getCode())
-                        throw new IOException("Invalid character found.");
-                }
+    // Reads a maze from a binary maze file
+    private void readBinaryMaze(File mazeFile) throws IOException {
+        // Try block to ensure the stream is closed
+        try (DataInputStream input = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(mazeFile), BUFFER_SIZE))) {
+            // Skips the magic bytes, which have already been checked
+            input.readInt();
+
+            // Only one version of the format exists so far
+            if (input.readByte() != BINARY_VERSION)
+                throw new IOException("Unsupported maze file version");
+
+            byte encoding = input.readByte();
+            int width = input.readInt();
+            int height = input.readInt();
+            int newRangerIndex = input.readInt();
+            int newCabinIndex = input.readInt();
+
+            // Makes sure the dimensions are valid before allocating anything
+            if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE)
+                throw new IOException("Invalid maze dimensions");
+
+            int blockCount = width * height;
+
+            // The ranger and cabin must be inside the maze
+            if (newRangerIndex < 0 || newRangerIndex >= blockCount ||
+                    newCabinIndex < 0 || newCabinIndex >= blockCount)
+                throw new IOException("Maze did not have a ranger and cabin.");
 
-                // Sets the new PathBlock in the new maze
-                newMaze[i][j] = newBlock;
+            // Reads the Trees
+            long[] trees;
+            if (encoding == BITSET_ENCODING) {
+                trees = new long[(blockCount + 63) >>> 6];
+                for (int i = 0; i < trees.length; i++) {
+                    trees[i] = input.readLong();
+                }
             }
-        }
-            
-            // New maze is fully initialized
-            // If a ranger or cabin was not found, the maze is invalid
-            if (newRangerIndex == null || newCabinIndex == null)
-                throw new IOException("Maze did not have a ranger and cabin.");
-                
+
+            else if (encoding == RUN_LENGTH_ENCODING)
+                trees = readRuns(input, blockCount);
+
+            else throw new IOException("Unknown maze encoding");
+
+            MazeGrid newMaze = new MazeGrid(height, width, trees);
+
+            // The ranger and cabin have to be on Trails
+            if (newMaze.isTree(newRangerIndex) || newMaze.isTree(newCabinIndex))
+                throw new IOException("Ranger and cabin cannot be on Trees");
+
+            newMaze.setState(newCabinIndex, Trail.TraversalState.CABIN);
+
             // Saves new maze and indices
-            maze = newMaze;
-            rangerIndex = newRangerIndex;
-            cabinIndex = newCabinIndex;
+            replaceMaze(newMaze.snapshot());
+            rangerIndex = newMaze.getCoordinate(newRangerIndex);
+            cabinIndex = newMaze.getCoordinate(newCabinIndex);
+        }
+
+        // The file ended before the whole maze was read
+        catch (EOFException e) {
+            throw new IOException("Maze file is incomplete");
+        }
     }
-    
+
+    // Reads run lengths of Trails and Trees into a bitset of Trees
+    // Runs alternate, starting with Trails, until every block is covered
+    private static long[] readRuns(DataInputStream input, int blockCount) throws IOException {
+        BitSet trees = new BitSet(blockCount);
+        boolean tree = false;
+
+        int position = 0;
+        while (position < blockCount) {
+            int length = readVarInt(input);
+
+            // Runs cannot go past the end of the maze
+            if (length < 0 || length > blockCount - position)
+                throw new IOException("Maze runs do not match its dimensions");
+
+            if (tree)
+                trees.set(position, position + length);
+
+            position += length;
+            tree = !tree;
+        }
+
+        return trees.toLongArray();
+    }
+
     // Writes maze to maze file
+    // Files ending in the binary extension are written in the binary format
     public void writeMaze(File mazeFile) throws IOException {
-        // PrintWriter to write to file
-        // Try block to ensure it is closed
-        try (PrintWriter writer = new PrintWriter(mazeFile)) {
-            // For each block in each row
-            for (int i = 0; i < mazeHeight; i++) {
-                for (int j = 0; j < mazeWidth; j++) {
-                    // Saves current block
-                    PathBlock block = maze[i][j];
-
-                    // The code to be outputted for this block
-                    char currentCode;
-
-                    // If it is a Tree
-                    if (block instanceof Tree)
-                        currentCode = MazeStates.TREE.getCode();
-
-                    // It is a Trail object, check if it is a cabin
-                    else if (((Trail)block).getTraversalState() == Trail.TraversalState.CABIN) {
-                        currentCode = MazeStates.CABIN.getCode();
-                    }
+        if (mazeFile.getName().endsWith(BINARY_EXTENSION)) {
+            writeBinaryMaze(mazeFile);
+            return;
+        }
 
-                    // Check if the starting index is there, so the ranger will be there
-                    else if (rangerIndex.y() == i && rangerIndex.x() == j) {
-                        currentCode = MazeStates.RANGER.getCode();
-                    }
+        writeAtomically(mazeFile, this::writeTextMaze);
+    }
 
-                    // It is just an empty Trail
-                    else currentCode = MazeStates.TRAIL.getCode();
+    // Writes the maze as text, one row at a time
+    // Each row is built in a reusable buffer, which is written to the channel whenever it is full
+    private void writeTextMaze(FileChannel channel) throws IOException {
+        MazeGrid grid = maze.toGrid();
+        int width = grid.getWidth();
+        int rowLength = width + 1;
 
-                    // Now that the current code has been received, output it to the file
-                    writer.print(currentCode);
-                }
+        // The buffer holds at least one full row
+        ByteBuffer buffer = ByteBuffer.allocate(Math.max(BUFFER_SIZE, rowLength));
+        byte[] bytes = buffer.array();
 
-                // Skip a line after each row
-                writer.println();
+        int rangerBlock = grid.index(rangerIndex);
+        int cabinBlock = grid.getCabinIndex();
+
+        for (int i = 0; i < grid.getHeight(); i++) {
+            // Writes out the full rows if this one does not fit
+            if (buffer.remaining() < rowLength)
+                writeBuffer(channel, buffer);
+
+            int start = buffer.position();
+            int rowStart = i * width;
+
+            // Every block is a Tree or an empty Trail
+            for (int j = 0; j < width; j++) {
+                bytes[start + j] = grid.isTree(rowStart + j) ? TREE_CODE : TRAIL_CODE;
             }
 
-            // Throws an IOException if the writer had errors
-            if (writer.checkError())
-                throw new IOException("An unexpected error has occurred while writing to the file.");
+            // Skip a line after each row
+            bytes[start + width] = NEW_LINE;
+
+            // The ranger is only written on a Trail
+            if (rangerBlock / width == i && !grid.isTree(rangerBlock))
+                bytes[start + rangerBlock % width] = RANGER_CODE;
+
+            // The cabin is written over the ranger if they are on the same block
+            if (cabinBlock != MazeGrid.NO_CABIN && cabinBlock / width == i)
+                bytes[start + cabinBlock % width] = CABIN_CODE;
+
+            buffer.position(start + rowLength);
         }
+
+        writeBuffer(channel, buffer);
     }
 
-    // Creates a deep copy of a maze and returns it
-    private PathBlock[][] getMazeCopy(PathBlock[][] oldMaze) {
-        // Throws exception if the oldMaze is null
-        if (oldMaze == null)
-            throw new IllegalArgumentException("Old maze cannot be null");
-
-        // New maze to be copied into
-        PathBlock[][] copy = new PathBlock[mazeHeight][mazeWidth];
-
-        // For every element in the current maze
-        // Create a PathBlock of the same type
-        // If it's a Trail, copy its traversal state as well
-        for (int i = 0; i < mazeHeight; i++) {
-            for (int j = 0; j < mazeWidth; j++) {
-                // Old PathBlock to be copied
-                PathBlock old = oldMaze[i][j];
-
-                // If it was a Tree, create a new Tree
-                // using the old Trees dimensions and continue
-                if (old instanceof Tree) {
-                    copy[i][j] = new Tree((int)old.getX(), (int)old.getY(), (int)old.getWidth(), (int)old.getHeight());
-                    continue;
+    // Writes everything in the buffer to the channel and clears it
+    private static void writeBuffer(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    // Writes a maze file through a temporary file in the same folder
+    // The temporary file replaces the maze file only once it is completely written,
+    // so a crash never leaves a half written maze
+    private static void writeAtomically(File mazeFile, MazeWriter writer) throws IOException {
+        Path target = mazeFile.toPath().toAbsolutePath();
+        Path temporary = target.resolveSibling("." + target.getFileName() + ".tmp");
+
+        try {
+            // Try block to ensure the channel is closed
+            try (FileChannel channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.write(channel);
+
+                // Makes sure the data is on the disk before the rename
+                channel.force(false);
+            }
+
+            // Replaces the maze file with the temporary file
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // Some file systems cannot rename atomically, the file is still complete before it is moved
+            catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // Removes the temporary file if anything went wrong
+        catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    // Writes maze to a binary maze file
+    // Uses run lengths if they are smaller than a bitset, which is usually the case for sparse mazes
+    public void writeBinaryMaze(File mazeFile) throws IOException {
+        MazeGrid grid = maze.toGrid();
+
+        // The header needs the cabin
+        if (grid.getCabinIndex() == MazeGrid.NO_CABIN)
+            throw new IOException("Maze does not have a cabin.");
+
+        int blockCount = grid.getCellCount();
+        BitSet trees = BitSet.valueOf(grid.getTreeBits());
+
+        // Picks the smaller encoding
+        long bitsetBytes = 8L * ((blockCount + 63) >>> 6);
+        byte encoding = getRunBytes(trees, blockCount) < bitsetBytes ? RUN_LENGTH_ENCODING : BITSET_ENCODING;
+
+        writeAtomically(mazeFile, channel -> {
+            // The stream is not closed, since that would close the channel before it is saved
+            DataOutputStream output = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+
+            // Writes the header
+            output.writeInt(BINARY_MAGIC);
+            output.writeByte(BINARY_VERSION);
+            output.writeByte(encoding);
+            output.writeInt(grid.getWidth());
+            output.writeInt(grid.getHeight());
+            output.writeInt(grid.index(rangerIndex));
+            output.writeInt(grid.getCabinIndex());
+
+            // Writes the Trees
+            if (encoding == BITSET_ENCODING) {
+                long[] words = trees.toLongArray();
+                int wordCount = (blockCount + 63) >>> 6;
+
+                // Trailing words without Trees are not in the BitSet, so they are written as zero
+                for (int i = 0; i < wordCount; i++) {
+                    output.writeLong(i < words.length ? words[i] : 0);
                 }
+            }
 
-                // The old block is a Trail, so create a new Trail instead
-                // then copy over its traversal state
-                copy[i][j] = new Trail((int)old.getX(), (int)old.getY(), (int)old.getWidth(), (int)old.getHeight());
-                ((Trail) copy[i][j]).setTraversalState(((Trail) old).getTraversalState());
+            else {
+                boolean tree = false;
+                for (int position = 0; position < blockCount; tree = !tree) {
+                    int end = nextRunEnd(trees, position, tree, blockCount);
+                    writeVarInt(output, end - position);
+                    position = end;
+                }
             }
+
+            output.flush();
+        });
+    }
+
+    // Returns the number of bytes needed to write the Trees as run lengths
+    private static long getRunBytes(BitSet trees, int blockCount) {
+        long runBytes = 0;
+
+        boolean tree = false;
+        for (int position = 0; position < blockCount; tree = !tree) {
+            int end = nextRunEnd(trees, position, tree, blockCount);
+            runBytes += varIntLength(end - position);
+            position = end;
         }
 
-        return copy;
+        return runBytes;
+    }
+
+    // Returns the end of the run of Trails or Trees starting at the position
+    private static int nextRunEnd(BitSet trees, int position, boolean tree, int blockCount) {
+        int end = tree ? trees.nextClearBit(position) : trees.nextSetBit(position);
+
+        // There are no more blocks of the other kind
+        return end < 0 || end > blockCount ? blockCount : end;
     }
 
-    // Getter that returns a deep copy of the maze
-    public PathBlock[][] getMaze() {
-        return getMazeCopy(maze);
+    // Writes a non-negative int using 7 bits per byte, smallest bits first
+    // The top bit of each byte is set if more bytes follow
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        output.writeByte(value);
     }
 
-    // Setter that saves a deep copy of a maze
-    public void setMaze(PathBlock[][] maze) {
+    // Reads an int written by writeVarInt
+    private static int readVarInt(DataInputStream input) throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0)
+                return value;
+        }
+
+        throw new IOException("Invalid run length in maze file");
+    }
+
+    // Returns the number of bytes writeVarInt uses for a value
+    private static int varIntLength(int value) {
+        return (31 - Integer.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    // Getter that returns a copy of the maze
+    // The copy shares every chunk with the snapshot, so it is created without copying any blocks
+    public MazeGrid getMaze() {
+        return maze.toGrid();
+    }
+
+    // Setter that saves a snapshot of a maze
+    // Later changes to the maze copy the chunks they touch, so they do not affect the snapshot
+    public void setMaze(MazeGrid maze) {
         // Throws exception if maze is null
         if (maze == null)
             throw new IllegalArgumentException("Null maze");
 
-        // Saves a copy of the maze
-        this.maze = getMazeCopy(maze);
+        // Saves a snapshot of the maze
+        replaceMaze(maze.snapshot());
+    }
+
+    // Replaces the maze, the components of the old maze no longer apply
+    private void replaceMaze(MazeSnapshot snapshot) {
+        maze = snapshot;
+        components = null;
+    }
+
+    // Getter for the connected components of the maze
+    // Labelled the first time they are needed after the maze changes
+    public ConnectedComponents getComponents() {
+        if (components == null)
+            components = new ConnectedComponents(maze.toGrid());
+
+        return components;
+    }
+
+    // Returns if a path of Trails joins the ranger to the cabin
+    // Only a lookup once the components are labelled, so unsolvable mazes are found without a search
+    public boolean isCabinReachable() {
+        if (maze.getCabinIndex() == MazeGrid.NO_CABIN)
+            return false;
+
+        return getComponents().isConnected(rangerIndex.y() * maze.getWidth() + rangerIndex.x(), maze.getCabinIndex());
+    }
+
+    // Getter for the snapshot of the maze, which can be shared between threads
+    public MazeSnapshot getSnapshot() {
+        return maze;
+    }
+
+    // Getters for the dimensions of the maze
+    public int getMazeHeight() {
+        return maze.getHeight();
+    }
+
+    public int getMazeWidth() {
+        return maze.getWidth();
     }
 
     // Getters and setters for ranger and cabin index
@@ -299,4 +570,138 @@ public class MazeFileHandler
     public void setRangerIndex(MazePanel.Coordinate2D rangerIndex) {
         this.rangerIndex = rangerIndex;
     }
+
+    // Parses the bytes of a maze file as they are read
+    // Keeps the Trees in a bitset that grows as more rows are read,
+    // since the height is not known until the end of the file
+    private static class MazeParser {
+        // Bitset of the Trees found so far
+        private long[] trees = new long[BUFFER_SIZE >>> 6];
+
+        // Width of the maze, unknown until the end of the first line
+        private int width = NOT_FOUND;
+
+        // Column in the current line, number of full lines and number of blocks read
+        private int column;
+        private int height;
+        private int blockCount;
+
+        // Packed indices of the ranger and cabin
+        private int rangerIndex = NOT_FOUND;
+        private int cabinIndex = NOT_FOUND;
+
+        // Parses the first length bytes of the array
+        // Works on local copies of the fields, which the JIT can keep in registers
+        private void parse(byte[] bytes, int length) throws IOException {
+            long[] trees = this.trees;
+            int width = this.width;
+            int column = this.column;
+            int height = this.height;
+            int blockCount = this.blockCount;
+
+            for (int i = 0; i < length; i++) {
+                byte code = bytes[i];
+
+                // Ignores carriage returns of Windows line endings
+                if (code == CARRIAGE_RETURN) continue;
+
+                // Finishes the line
+                // Lines only end once a row, so saving and reloading the local copies around it is cheap
+                if (code == NEW_LINE) {
+                    this.width = width;
+                    this.column = column;
+                    this.height = height;
+                    endLine();
+
+                    width = this.width;
+                    column = this.column;
+                    height = this.height;
+                    continue;
+                }
+
+                // If the line is longer than the first, throw an exception
+                if (column == width)
+                    throw new IOException("Unexpected width of maze");
+
+                // Makes sure the maze can still be indexed by an int
+                if (blockCount == Integer.MAX_VALUE)
+                    throw new IOException("Maze is too large");
+
+                // Most blocks are empty Trails, which need nothing done
+                if (code == TRAIL_CODE) {}
+
+                // Character represents a tree, set it to a tree
+                else if (code == TREE_CODE) {
+                    // Grows the bitset if the Tree is past its end
+                    // Doubles it at least, the last Tree may have been many rows ago
+                    if ((blockCount >>> 6) >= trees.length)
+                        trees = this.trees = Arrays.copyOf(trees, Math.max(trees.length * 2, (blockCount >>> 6) + 1));
+
+                    trees[blockCount >>> 6] |= 1L << blockCount;
+                }
+
+                // If it's a cabin, save its index
+                else if (code == CABIN_CODE) {
+                    // If the cabin index was already found, there is another cabin
+                    if (cabinIndex != NOT_FOUND)
+                        throw new IOException("Cannot have multiple cabins");
+
+                    cabinIndex = blockCount;
+                }
+
+                // If it's a ranger, save its index
+                else if (code == RANGER_CODE) {
+                    // If the ranger index was already found, then another ranger is in the maze
+                    if (rangerIndex != NOT_FOUND)
+                        throw new IOException("Cannot have multiple rangers");
+
+                    rangerIndex = blockCount;
+                }
+
+                // If the character is something else, throw an exception
+                else throw new IOException("Invalid character found.");
+
+                column++;
+                blockCount++;
+            }
+
+            // Saves where the parser is, for the next buffer
+            this.width = width;
+            this.column = column;
+            this.height = height;
+            this.blockCount = blockCount;
+        }
+
+        // Finishes a line, the first line sets the width
+        private void endLine() throws IOException {
+            if (width == NOT_FOUND)
+                width = column;
+
+            else if (column != width)
+                throw new IOException("Unexpected width of maze");
+
+            column = 0;
+            height++;
+        }
+
+        // Creates the maze once every byte has been parsed
+        private MazeGrid createMaze() throws IOException {
+            // The last line may not end with a new line
+            if (column > 0)
+                endLine();
+
+            // The maze needs at least one block
+            if (width == NOT_FOUND || width == 0)
+                throw new IOException("Maze file is empty");
+
+            // If a ranger or cabin was not found, the maze is invalid
+            if (rangerIndex == NOT_FOUND || cabinIndex == NOT_FOUND)
+                throw new IOException("Maze did not have a ranger and cabin.");
+
+            MazeGrid maze = new MazeGrid(height, width, trees);
+            maze.setState(cabinIndex, Trail.TraversalState.CABIN);
+
+            return maze;
+        }
+    }
 }
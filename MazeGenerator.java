@@ -0,0 +1,197 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Procedural generator of seeded mazes, mostly for load testing
+ * The same seed and dimensions always give the same maze
+ *
+ * Perfect mazes are carved out of a maze full of Trees
+ * Cells are the blocks with even coordinates, and the blocks between two cells are walls
+ * Carving a wall joins two cells, and every pair of cells is joined by exactly one path
+ * Mazes with an even width or height have a border of Trees on the right or bottom
+ *
+ * The ranger is always in the top left and the cabin in the last cell
+ * Generators only use a few bits of memory per block beyond the grid itself
+ *
+ * Usage: java MazeGenerator algorithm height width output [seed] [tree density] [threads]
+ * The output is written in the format chosen by its extension, like MazeConverter
+ * Giving a number of threads generates the maze in tiles with a TiledMazeGenerator
+ * Only perfect mazes can be generated in tiles, so random fields are always made on one thread
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public abstract class MazeGenerator {
+    // Enum of the algorithms that can be used to generate a maze
+    public enum Algorithm {
+        BACKTRACKER("Recursive Backtracker"),
+        PRIM("Randomized Prim"),
+        KRUSKAL("Randomized Kruskal"),
+        RANDOM_FIELD("Random Field");
+
+        // Name of the algorithm shown to the user
+        private final String displayName;
+
+        // Saves display name
+        Algorithm(String displayName) {
+            this.displayName = displayName;
+        }
+
+        // Getter for display name
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        // Creates a generator that uses this algorithm
+        // Random fields use the default tree density
+        public MazeGenerator create(long seed) {
+            return switch (this) {
+                case BACKTRACKER -> new BacktrackerGenerator(seed);
+                case PRIM -> new PrimGenerator(seed);
+                case KRUSKAL -> new KruskalGenerator(seed);
+                case RANDOM_FIELD -> new RandomFieldGenerator(seed, RandomFieldGenerator.DEFAULT_DENSITY);
+            };
+        }
+    }
+
+    // Default seed of the command line tool
+    private static final long DEFAULT_SEED = 42;
+
+    // Seed every maze is generated from
+    private final long seed;
+
+    // Constructor
+    public MazeGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    // Getter for the seed
+    public long getSeed() {
+        return seed;
+    }
+
+    // Generates a maze
+    // Every call starts again from the seed, so gives the same maze
+    public MazeGrid generate(int height, int width) {
+        MazeGrid maze = new MazeGrid(height, width);
+        generate(maze, new SplittableRandom(seed));
+        placeRangerAndCabin(maze);
+
+        return maze;
+    }
+
+    // Makes sure the ranger and cabin are on Trails, and places the cabin
+    void placeRangerAndCabin(MazeGrid maze) {
+        int cabinIndex = getCabinIndex(maze);
+        maze.setTree(0, false);
+        maze.setTree(cabinIndex, false);
+        maze.setState(cabinIndex, Trail.TraversalState.CABIN);
+    }
+
+    // Generates a maze and writes it to a file
+    // The file is text or binary depending on its extension
+    public void writeMaze(int height, int width, File mazeFile) throws IOException {
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+        fileHandler.setMaze(generate(height, width));
+        fileHandler.setRangerIndex(new MazePanel.Coordinate2D(0, 0));
+        fileHandler.writeMaze(mazeFile);
+    }
+
+    // Places the Trees of a new maze, using only the random generator given
+    protected abstract void generate(MazeGrid maze, SplittableRandom random);
+
+    // Returns if the maze is perfect, with cells joined by carving walls
+    // Generators that are not perfect place Trees anywhere
+    protected boolean isPerfect() {
+        return true;
+    }
+
+    // Returns the packed index of the cabin, the last cell of the maze
+    protected int getCabinIndex(MazeGrid maze) {
+        return maze.index((maze.getWidth() - 1) & ~1, (maze.getHeight() - 1) & ~1);
+    }
+
+    /* Conversions between cells and blocks, used by the perfect mazes */
+    // Returns the number of cells across or down a maze of the given size
+    protected static int cellCount(int blocks) {
+        return (blocks + 1) / 2;
+    }
+
+    // Returns the packed index of the block a cell is on
+    protected static int cellBlock(MazeGrid maze, int cellX, int cellY) {
+        return maze.index(cellX * 2, cellY * 2);
+    }
+
+    // Generates a maze from the command line
+    public static void main(String[] args) {
+        if (args.length < 4) {
+            System.err.println("Usage: java MazeGenerator algorithm height width output [seed] [tree density] [threads]");
+            System.err.println("Algorithms are " + Arrays.toString(Algorithm.values()));
+            System.exit(2);
+        }
+
+        // Reads the settings, using the defaults for any that are missing
+        Algorithm algorithm = null;
+        try {
+            algorithm = Algorithm.valueOf(args[0].toUpperCase(Locale.ROOT));
+        }
+
+        // Lets the user know which algorithms exist
+        catch (IllegalArgumentException e) {
+            System.err.println("Unknown algorithm, expected one of " + Arrays.toString(Algorithm.values()));
+            System.exit(2);
+        }
+
+        int height = Integer.parseInt(args[1]);
+        int width = Integer.parseInt(args[2]);
+        File output = new File(args[3]);
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_SEED;
+
+        // Only random fields have a tree density
+        MazeGenerator generator = args.length > 5 && algorithm == Algorithm.RANDOM_FIELD
+                ? new RandomFieldGenerator(seed, Double.parseDouble(args[5]))
+                : algorithm.create(seed);
+
+        // Random fields cannot be tiled, as nothing would join the tiles
+        if (args.length > 6 && !generator.isPerfect()) {
+            System.err.println("Only perfect mazes can be generated on more than one thread");
+            System.exit(2);
+        }
+
+        // Tiled mazes are different from the mazes made on one thread, but the same for any number of threads
+        ForkJoinPool pool = args.length > 6 ? new ForkJoinPool(Integer.parseInt(args[6])) : null;
+
+        long startTime = System.nanoTime();
+        MazeGrid maze = pool == null ? generator.generate(height, width)
+                : new TiledMazeGenerator(generator, pool).generate(height, width);
+        long generateTime = System.nanoTime() - startTime;
+
+        if (pool != null)
+            pool.shutdown();
+
+        // Writes the maze in the format of the output file
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+        fileHandler.setMaze(maze);
+        fileHandler.setRangerIndex(new MazePanel.Coordinate2D(0, 0));
+
+        startTime = System.nanoTime();
+        try {
+            fileHandler.writeMaze(output);
+        }
+
+        // Lets the user know the maze could not be written
+        catch (IOException e) {
+            System.err.println("Could not write maze: " + e.getMessage());
+            System.exit(1);
+        }
+
+        long writeTime = System.nanoTime() - startTime;
+
+        System.out.printf("%dx%d %s maze, generated in %.2f s, %d bytes written in %.2f s%n",
+                width, height, algorithm.getDisplayName(), generateTime / 1e9, output.length(), writeTime / 1e9);
+    }
+}
@@ -0,0 +1,370 @@
+import java.util.Arrays;
+
+/**
+ * Compact grid model of a maze
+ * Trees are stored in a bitset and the TraversalState of every block in a byte array
+ * Used by the solvers, file handler and panels instead of a 2D array of PathBlocks
+ *
+ * Blocks are referred to by a packed index of y * width + x
+ * A multi-million block maze only costs a little over one byte per block
+ *
+ * Both arrays are split into chunks of blocks, which are copied on write
+ * Copies and snapshots share every chunk, and a chunk is only copied the first time a grid writes to it
+ * Chunks that have never been written to are shared with every other grid
+ * A grid is not thread safe, use a MazeSnapshot to share a maze between threads
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class MazeGrid {
+    // Table of traversal states so ordinals can be turned back into states
+    private static final Trail.TraversalState[] STATES = Trail.TraversalState.values();
+
+    // Index used when there is no cabin in the maze
+    public static final int NO_CABIN = -1;
+
+    // Number of blocks in each chunk, as a power of two
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // Number of longs of Trees in each chunk, one long holds 64 Trees
+    private static final int TREE_WORDS = CHUNK_SIZE >>> 6;
+
+    // Chunks without Trees, with every block UNDISCOVERED
+    // UNDISCOVERED is the first TraversalState, so its ordinal is zero
+    // Shared by every grid and never written to
+    private static final long[] EMPTY_TREES = new long[TREE_WORDS];
+    private static final byte[] EMPTY_STATES = new byte[CHUNK_SIZE];
+
+    // Odd constant that mixes the words of Trees into the tree hash
+    private static final long TREE_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    // Dimensions of the maze
+    private final int height;
+    private final int width;
+
+    // Bitset of Trees, one bit per block, split into chunks
+    private final long[][] treeChunks;
+
+    // Ordinal of the TraversalState of every block, split into chunks
+    // Trees are always UNDISCOVERED
+    private final byte[][] stateChunks;
+
+    // Chunks that this grid copied or created, and so can write to
+    // Every other chunk may be shared
+    private final boolean[] ownedTreeChunks;
+    private final boolean[] ownedStateChunks;
+
+    // Packed index of the cabin, NO_CABIN if it is not placed
+    private int cabinIndex;
+
+    // Constructor
+    // Every block starts as an undiscovered Trail
+    public MazeGrid(int height, int width) {
+        // Dimensions must be positive and small enough to pack into an int
+        if (height <= 0 || width <= 0)
+            throw new IllegalArgumentException("Maze dimensions must be positive");
+        if ((long) height * width > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Maze is too large");
+
+        this.height = height;
+        this.width = width;
+
+        // Every chunk starts empty, so nothing is allocated until it is written to
+        int chunkCount = (int) (((long) height * width + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        treeChunks = new long[chunkCount][];
+        stateChunks = new byte[chunkCount][];
+        ownedTreeChunks = new boolean[chunkCount];
+        ownedStateChunks = new boolean[chunkCount];
+
+        for (int i = 0; i < chunkCount; i++) {
+            treeChunks[i] = EMPTY_TREES;
+            stateChunks[i] = EMPTY_STATES;
+        }
+
+        cabinIndex = NO_CABIN;
+    }
+
+    // Constructor that takes a bitset of Trees, one bit per packed index
+    // Used by readers that find the Trees before they know the height of the maze
+    // Every block starts as an undiscovered Trail or a Tree
+    public MazeGrid(int height, int width, long[] trees) {
+        this(height, width);
+
+        // Copies only the bits inside the maze
+        int cellCount = height * width;
+        int wordCount = Math.min(trees.length, (cellCount + 63) >>> 6);
+
+        for (int word = 0; word < wordCount; word++) {
+            if (trees[word] != 0)
+                writableTrees(word / TREE_WORDS)[word % TREE_WORDS] = trees[word];
+        }
+
+        // Clears any bits past the last block
+        int lastWord = (cellCount - 1) >>> 6;
+        if ((cellCount & 63) != 0 && lastWord < wordCount)
+            writableTrees(lastWord / TREE_WORDS)[lastWord % TREE_WORDS] &= (1L << cellCount) - 1;
+    }
+
+    // Copy constructor
+    // Both grids share every chunk until they write to it
+    public MazeGrid(MazeGrid other) {
+        this(other.snapshot());
+    }
+
+    // Constructor that creates a grid from a snapshot
+    // Shares every chunk of the snapshot, only the tables of chunks are copied
+    MazeGrid(MazeSnapshot snapshot) {
+        height = snapshot.getHeight();
+        width = snapshot.getWidth();
+        treeChunks = snapshot.getTreeChunks().clone();
+        stateChunks = snapshot.getStateChunks().clone();
+        ownedTreeChunks = new boolean[treeChunks.length];
+        ownedStateChunks = new boolean[stateChunks.length];
+        cabinIndex = snapshot.getCabinIndex();
+    }
+
+    // Returns a copy of this maze
+    public MazeGrid copy() {
+        return new MazeGrid(this);
+    }
+
+    // Returns an immutable snapshot of this maze
+    // The snapshot shares every chunk, so this grid copies a chunk the next time it writes to it
+    public MazeSnapshot snapshot() {
+        Arrays.fill(ownedTreeChunks, false);
+        Arrays.fill(ownedStateChunks, false);
+
+        return new MazeSnapshot(height, width, treeChunks.clone(), stateChunks.clone(), cabinIndex);
+    }
+
+    // Copies every chunk this grid does not own yet
+    // Afterwards, writing to the grid never allocates
+    public void ensureWritable() {
+        for (int i = 0; i < treeChunks.length; i++) {
+            writableTrees(i);
+            writableStates(i);
+        }
+    }
+
+    // Returns a chunk of Trees that can be written to, copying it if it is shared
+    private long[] writableTrees(int chunk) {
+        if (!ownedTreeChunks[chunk]) {
+            treeChunks[chunk] = treeChunks[chunk].clone();
+            ownedTreeChunks[chunk] = true;
+        }
+
+        return treeChunks[chunk];
+    }
+
+    // Returns a chunk of states that can be written to, copying it if it is shared
+    private byte[] writableStates(int chunk) {
+        if (!ownedStateChunks[chunk]) {
+            stateChunks[chunk] = stateChunks[chunk].clone();
+            ownedStateChunks[chunk] = true;
+        }
+
+        return stateChunks[chunk];
+    }
+
+    /* Conversions between coordinates and packed indices */
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    public int index(MazePanel.Coordinate2D coordinate) {
+        return index(coordinate.x(), coordinate.y());
+    }
+
+    public int getX(int index) {
+        return index % width;
+    }
+
+    public int getY(int index) {
+        return index / width;
+    }
+
+    public MazePanel.Coordinate2D getCoordinate(int index) {
+        return new MazePanel.Coordinate2D(getX(index), getY(index));
+    }
+
+    // Returns if the coordinate is inside the maze
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    // Returns if the block at the index is a Tree
+    public boolean isTree(int index) {
+        return (treeChunks[index >>> CHUNK_SHIFT][(index & CHUNK_MASK) >>> 6] & (1L << index)) != 0;
+    }
+
+    public boolean isTree(int x, int y) {
+        return isTree(index(x, y));
+    }
+
+    // Returns if the coordinate is inside the maze and a Trail
+    public boolean isTrail(int x, int y) {
+        return contains(x, y) && !isTree(index(x, y));
+    }
+
+    // Places or removes a Tree at the index
+    // Either way the block is replaced, so it becomes UNDISCOVERED
+    public void setTree(int index, boolean tree) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int block = index & CHUNK_MASK;
+
+        // Only copies the chunk if the Tree changes
+        if (tree != isTree(index)) {
+            if (tree)
+                writableTrees(chunk)[block >>> 6] |= 1L << index;
+
+            else writableTrees(chunk)[block >>> 6] &= ~(1L << index);
+        }
+
+        // Replacing the cabin removes it
+        if (index == cabinIndex)
+            cabinIndex = NO_CABIN;
+
+        if (stateChunks[chunk][block] != Trail.TraversalState.UNDISCOVERED.ordinal())
+            writableStates(chunk)[block] = (byte) Trail.TraversalState.UNDISCOVERED.ordinal();
+    }
+
+    public void setTree(int x, int y, boolean tree) {
+        setTree(index(x, y), tree);
+    }
+
+    // Makes every block a Tree, or every block a Trail
+    // Every block becomes UNDISCOVERED and the cabin is removed
+    // Used by the maze generators, which carve Trails out of a maze full of Trees
+    public void fill(boolean tree) {
+        Arrays.fill(stateChunks, EMPTY_STATES);
+        Arrays.fill(ownedStateChunks, false);
+        cabinIndex = NO_CABIN;
+
+        if (!tree) {
+            Arrays.fill(treeChunks, EMPTY_TREES);
+            Arrays.fill(ownedTreeChunks, false);
+            return;
+        }
+
+        for (int i = 0; i < treeChunks.length; i++) {
+            treeChunks[i] = new long[TREE_WORDS];
+            Arrays.fill(treeChunks[i], -1L);
+            ownedTreeChunks[i] = true;
+        }
+
+        // Clears the bits past the last block, which are not part of the maze
+        int cellCount = getCellCount();
+        long[] lastChunk = treeChunks[treeChunks.length - 1];
+        int lastWord = ((cellCount - 1) & CHUNK_MASK) >>> 6;
+
+        if ((cellCount & 63) != 0)
+            lastChunk[lastWord] = (1L << cellCount) - 1;
+
+        Arrays.fill(lastChunk, lastWord + 1, TREE_WORDS, 0L);
+    }
+
+    // Getter for the traversal state of the block at the index
+    public Trail.TraversalState getState(int index) {
+        return STATES[stateChunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK]];
+    }
+
+    public Trail.TraversalState getState(int x, int y) {
+        return getState(index(x, y));
+    }
+
+    // Setter for the traversal state of the Trail at the index
+    // Keeps track of where the cabin is
+    public void setState(int index, Trail.TraversalState state) {
+        // Only Trails can be traversed
+        if (isTree(index))
+            throw new IllegalArgumentException("Trees do not have a traversal state");
+
+        // Saves the cabin index, or removes it if the cabin was overwritten
+        if (state == Trail.TraversalState.CABIN)
+            cabinIndex = index;
+
+        else if (index == cabinIndex)
+            cabinIndex = NO_CABIN;
+
+        writableStates(index >>> CHUNK_SHIFT)[index & CHUNK_MASK] = (byte) state.ordinal();
+    }
+
+    public void setState(int x, int y, Trail.TraversalState state) {
+        setState(index(x, y), state);
+    }
+
+    // Sets every Trail back to UNDISCOVERED, except for the cabin
+    // Every chunk of states is replaced by the shared empty chunk
+    public void resetStates() {
+        Arrays.fill(stateChunks, EMPTY_STATES);
+        Arrays.fill(ownedStateChunks, false);
+
+        if (cabinIndex != NO_CABIN)
+            writableStates(cabinIndex >>> CHUNK_SHIFT)[cabinIndex & CHUNK_MASK] =
+                    (byte) Trail.TraversalState.CABIN.ordinal();
+    }
+
+    /* Getters for dimensions and the cabin */
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getCellCount() {
+        return height * width;
+    }
+
+    // Returns the number of blocks that are not Trees
+    public int getTrailCount() {
+        int treeCount = 0;
+        for (long[] chunk : treeChunks) {
+            for (long word : chunk) {
+                treeCount += Long.bitCount(word);
+            }
+        }
+
+        return getCellCount() - treeCount;
+    }
+
+    // Returns a copy of the bitset of Trees, one bit per packed index
+    public long[] getTreeBits() {
+        long[] trees = new long[(getCellCount() + 63) >>> 6];
+
+        for (int i = 0; i < treeChunks.length; i++) {
+            int start = i * TREE_WORDS;
+            System.arraycopy(treeChunks[i], 0, trees, start, Math.min(TREE_WORDS, trees.length - start));
+        }
+
+        return trees;
+    }
+
+    // Returns a 64 bit hash of the dimensions and Trees of the maze
+    // Traversal states and the cabin are not part of the hash
+    // Reads the chunks in place, so nothing is copied
+    public long getTreeHash() {
+        long hash = ((long) height << 32 | width) * TREE_HASH_MULTIPLIER;
+
+        for (long[] chunk : treeChunks) {
+            for (long word : chunk) {
+                hash = (hash ^ word) * TREE_HASH_MULTIPLIER;
+                hash ^= hash >>> 29;
+            }
+        }
+
+        return hash;
+    }
+
+    public int getCabinIndex() {
+        return cabinIndex;
+    }
+
+    // Returns the cabin as a coordinate, null if it is not placed
+    public MazePanel.Coordinate2D getCabinCoordinate() {
+        return cabinIndex == NO_CABIN ? null : getCoordinate(cabinIndex);
+    }
+}
@@ -0,0 +1,150 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Scanner;
+
+/**
+ * Command line benchmark for reading maze files
+ * Compares the old Scanner reader against the buffered and memory mapped readers of MazeFileHandler
+ * Prints the best load throughput of each reader in MB/s
+ * Every reader must load the same Trees, ranger and cabin as the Scanner reader, or the benchmark stops
+ *
+ * Reads the given maze file, or writes a random square field to a temporary file first
+ *
+ * Usage: java MazeLoadBenchmark [maze file | size] [runs]
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class MazeLoadBenchmark {
+    // Default settings when no arguments are given
+    private static final int DEFAULT_SIZE = 5000;
+    private static final double DEFAULT_DENSITY = 0.1;
+    private static final int DEFAULT_RUNS = 5;
+    private static final long DEFAULT_SEED = 42;
+
+    // Bytes in a megabyte
+    private static final double BYTES_PER_MB = 1024 * 1024;
+
+    // Maze and ranger read from a file
+    private record LoadedMaze(MazeGrid maze, MazePanel.Coordinate2D rangerIndex) {
+        // Returns if both have the same Trees, ranger and cabin
+        boolean matches(LoadedMaze other) {
+            return maze.getHeight() == other.maze.getHeight() && maze.getWidth() == other.maze.getWidth()
+                    && Arrays.equals(maze.getTreeBits(), other.maze.getTreeBits())
+                    && rangerIndex.equals(other.rangerIndex)
+                    && maze.getCabinIndex() == other.maze.getCabinIndex();
+        }
+    }
+
+    // Functional interface for a way of reading a maze file
+    private interface MazeReader {
+        LoadedMaze read(File mazeFile) throws IOException;
+    }
+
+    // Runs the benchmark
+    public static void main(String[] args) throws IOException {
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+
+        // Uses the given file, or creates a random field of the given size
+        File mazeFile;
+        if (args.length > 0 && new File(args[0]).isFile())
+            mazeFile = new File(args[0]);
+
+        else {
+            int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+            mazeFile = createMazeFile(size);
+        }
+
+        double megabytes = mazeFile.length() / BYTES_PER_MB;
+        System.out.printf("%s, %.1f MB, best of %d runs%n", mazeFile.getName(), megabytes, runs);
+        System.out.printf("%-20s %12s %12s%n", "Reader", "Time (ms)", "MB/s");
+
+        String[] names = {"Scanner", "Buffered channel", "Memory mapped"};
+        MazeReader[] readers = {
+                MazeLoadBenchmark::readWithScanner,
+                file -> readWithHandler(file, false),
+                file -> readWithHandler(file, true)
+        };
+
+        // Maze read by the Scanner reader, which the other readers must match
+        LoadedMaze expected = null;
+
+        for (int i = 0; i < readers.length; i++) {
+            long bestTime = Long.MAX_VALUE;
+
+            // One extra run first to warm up the JIT and the page cache
+            for (int run = 0; run <= runs; run++) {
+                long startTime = System.nanoTime();
+                LoadedMaze loaded = readers[i].read(mazeFile);
+                long time = System.nanoTime() - startTime;
+
+                if (run > 0)
+                    bestTime = Math.min(bestTime, time);
+
+                // Checks the warm up run, so a reader that is fast but wrong is not reported
+                else if (expected == null)
+                    expected = loaded;
+
+                else if (!loaded.matches(expected))
+                    throw new IllegalStateException(names[i] + " reader does not match the Scanner reader");
+            }
+
+            System.out.printf("%-20s %12.1f %12.1f%n", names[i], bestTime / 1e6, megabytes / (bestTime / 1e9));
+        }
+    }
+
+    // Reads a maze with a MazeFileHandler
+    private static LoadedMaze readWithHandler(File mazeFile, boolean memoryMapped) throws IOException {
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+        fileHandler.readMaze(mazeFile, memoryMapped);
+
+        return new LoadedMaze(fileHandler.getMaze(), fileHandler.getRangerIndex());
+    }
+
+    // Reads a maze the way MazeFileHandler used to
+    // Every line is read into a String with a Scanner, then copied into the grid
+    // Does not validate the file, the other readers are checked against it
+    private static LoadedMaze readWithScanner(File mazeFile) throws IOException {
+        ArrayList<String> lines = new ArrayList<>();
+
+        try (Scanner scanner = new Scanner(mazeFile)) {
+            while (scanner.hasNextLine()) {
+                lines.add(scanner.nextLine());
+            }
+        }
+
+        MazeGrid maze = new MazeGrid(lines.size(), lines.get(0).length());
+        MazePanel.Coordinate2D rangerIndex = null;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+
+            for (int j = 0; j < line.length(); j++) {
+                if (line.charAt(j) == 'T')
+                    maze.setTree(j, i, true);
+
+                else if (line.charAt(j) == 'C')
+                    maze.setState(j, i, Trail.TraversalState.CABIN);
+
+                else if (line.charAt(j) == 'R')
+                    rangerIndex = new MazePanel.Coordinate2D(j, i);
+            }
+        }
+
+        return new LoadedMaze(maze, rangerIndex);
+    }
+
+    // Writes a random square field to a temporary file
+    private static File createMazeFile(int size) throws IOException {
+        File mazeFile = File.createTempFile("maze", ".txt");
+        mazeFile.deleteOnExit();
+
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+        fileHandler.setMaze(SolverBenchmark.createField(size, DEFAULT_DENSITY, DEFAULT_SEED));
+        fileHandler.setRangerIndex(new MazePanel.Coordinate2D(0, 0));
+        fileHandler.writeMaze(mazeFile);
+
+        return mazeFile;
+    }
+}
@@ -1,18 +1,37 @@
 import javax.swing.JPanel;
+import javax.swing.Scrollable;
+import javax.swing.SwingConstants;
+import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Maze JPanel for a maze solver
  * Displays the maze
  * Used in both solver and editor panels
  *
+ * The maze is stored as a MazeGrid, PathBlocks are only used for drawing
+ * One Tree and one Trail for each TraversalState are moved around to draw every block
+ * Only blocks inside the clip are drawn, so repainting a few blocks is cheap
+ * Trees and borders are drawn once into cached image tiles, which are copied over the Trails
+ * Tiles are only drawn when part of them is painted, and only the most recently used are kept,
+ * so a very large maze never needs an image of the whole panel
+ *
+ * Mazes with more blocks than the panel has pixels make the panel bigger than the size it was given,
+ * so it should be shown in a JScrollPane, which keeps the size that was given
+ * Blocks too small for their borders are drawn without them, or the borders would cover the maze
+ *
  * @author Asif Rahman
- * @version 28/05/2023
+ * @version 17/10/2026
  */
-public abstract class MazePanel extends JPanel {
+public abstract class MazePanel extends JPanel implements Scrollable {
     // Record class used for 2D coordinates and moves
     public record Coordinate2D(int x, int y) {}
 
@@ -37,17 +56,44 @@ public abstract class MazePanel extends JPanel {
         }
     }
 
+    // Width of the border around each block
+    // Borders are centred on the block edges, so they spill into neighbouring blocks
+    protected static final int BORDER_WIDTH = 3;
+
+    // Stroke used to draw the borders
+    private static final BasicStroke BORDER_STROKE = new BasicStroke(BORDER_WIDTH);
+
+    // Smallest size of a block in pixels, mazes with more blocks make the panel bigger
+    private static final int MIN_BLOCK_SIZE = 1;
+
+    // Smallest size of a block in pixels that still has borders drawn around it
+    private static final int MIN_BORDERED_BLOCK_SIZE = 2 * BORDER_WIDTH;
+
+    // Smallest distance in pixels scrolled by the arrows of a scroll bar
+    private static final int MIN_SCROLL_INCREMENT = 16;
+
+    // Width and height in pixels of each tile of the static layer
+    private static final int STATIC_TILE_SIZE = 512;
+
+    // Fewest tiles of the static layer that are kept, about 1 MB each
+    // More are kept when the visible area of the panel needs them
+    private static final int MIN_STATIC_TILES = 32;
+
     // Dimensions of the maze
-    protected final int mazeHeight;
-    protected final int mazeWidth;
+    // Updated whenever a maze with different dimensions is set
+    protected int mazeHeight;
+    protected int mazeWidth;
 
     // Dimensions of the panel
     protected final int panelHeight;
     protected final int panelWidth;
 
     // Dimensions of each block
-    protected final int blockHeight;
-    protected final int blockWidth;
+    protected int blockHeight;
+    protected int blockWidth;
+
+    // If the blocks are big enough to draw borders around
+    private boolean drawBorders;
 
     // Ranger that will explore the maze
     protected final Ranger ranger;
@@ -55,58 +101,249 @@ public abstract class MazePanel extends JPanel {
     // Starting location of the Ranger
     protected Coordinate2D startIndex;
 
-    // 2D array of PathBlock
-    protected PathBlock[][] maze;
+    // Grid of Trees and Trails
+    protected MazeGrid maze;
+
+    // PathBlocks used to draw the maze
+    private final Tree treeBlock;
+    private final EnumMap<Trail.TraversalState, Trail> trailBlocks;
+
+    // Cached tiles of the image of the Trees and borders, which do not change while solving
+    // Keyed by the row and column of the tile, in order of use so the least recently used tile is dropped
+    private final Map<Long, BufferedImage> staticTiles = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > getMaxStaticTiles();
+        }
+    };
 
 
-    public MazePanel(int mazeHeight, int mazeWidth, int panelHeight, int panelWidth, PathBlock[][] maze) {
-        // Sets maze and panel dimensions
-        this.mazeHeight = mazeHeight;
-        this.mazeWidth = mazeWidth;
+    // Constructor
+    // The dimensions of the maze come from the MazeGrid
+    public MazePanel(int panelHeight, int panelWidth, MazeGrid maze) {
+        // Sets panel dimensions
         this.panelHeight = panelHeight;
         this.panelWidth = panelWidth;
 
-        // Calculates dimensions of each block
-        blockHeight = panelHeight / mazeHeight;
-        blockWidth = panelWidth / mazeWidth;
-
         // Creates a new ranger at (0, 0)
         ranger = new Ranger();
         startIndex = new Coordinate2D(0, 0);
 
         // Saves maze
         this.maze = maze;
-        
+
+        // Creates a block to draw Trees and one for each state of a Trail
+        treeBlock = new Tree(0, 0, 0, 0);
+        trailBlocks = new EnumMap<>(Trail.TraversalState.class);
+
+        for (Trail.TraversalState state : Trail.TraversalState.values()) {
+            Trail trail = new Trail(0, 0, 0, 0);
+            trail.setTraversalState(state);
+            trailBlocks.put(state, trail);
+        }
+
+        // Sizes the blocks and panel to fit the maze
+        updateDimensions();
+    }
+
+    // Saves the dimensions of the maze and fits the blocks to the panel
+    // The panel only grows past its size if the blocks would be too small
+    private void updateDimensions() {
+        mazeHeight = maze.getHeight();
+        mazeWidth = maze.getWidth();
+
+        // Calculates dimensions of each block
+        blockHeight = Math.max(MIN_BLOCK_SIZE, panelHeight / mazeHeight);
+        blockWidth = Math.max(MIN_BLOCK_SIZE, panelWidth / mazeWidth);
+
+        drawBorders = Math.min(blockHeight, blockWidth) >= MIN_BORDERED_BLOCK_SIZE;
+
+        // Resizes the blocks used for drawing
+        treeBlock.setSize(blockWidth, blockHeight);
+        for (Trail trail : trailBlocks.values()) {
+            trail.setSize(blockWidth, blockHeight);
+        }
+
         // sets preferred size
-        setPreferredSize(new Dimension(panelWidth, panelHeight));
+        setPreferredSize(new Dimension(Math.max(panelWidth, mazeWidth * blockWidth),
+                Math.max(panelHeight, mazeHeight * blockHeight)));
     }
 
-    // Calls the draw methods on every PathBlock
+    // Draws the Trails, then the cached layer of Trees and borders on top
     @Override
     public void paintComponent(Graphics graphics) {
         Graphics2D g = (Graphics2D)graphics;
 
-        // Increases the thickness of the lines
-        // By making a new stroke
-        g.setStroke(new BasicStroke(3));
+        // Only draws blocks inside the clip, everything if there is no clip
+        Rectangle clip = g.getClipBounds();
+        if (clip == null)
+            clip = new Rectangle(getPreferredSize());
+
+        // Draws every Trail, Trees are already in the static layer
+        Rectangle blocks = getBlocksInside(clip);
+        for (int i = blocks.y; i < blocks.y + blocks.height; i++) {
+            for (int j = blocks.x; j < blocks.x + blocks.width; j++) {
+                if (maze.isTree(j, i)) continue;
 
-        // Draws every block
-        for (PathBlock[] blocks : maze) {
-            for (PathBlock block : blocks) {
                 // Passes in the graphics context and this for the icon
-                block.draw(this, g);
+                getBlock(j, i).draw(this, g);
+            }
+        }
+
+        // Copies every tile of the static layer inside the clip, drawing any that are not cached
+        Dimension size = getPreferredSize();
+        int lastRow = Math.min(clip.y + clip.height, size.height - 1) / STATIC_TILE_SIZE;
+        int lastCol = Math.min(clip.x + clip.width, size.width - 1) / STATIC_TILE_SIZE;
+
+        for (int row = Math.max(0, clip.y / STATIC_TILE_SIZE); row <= lastRow; row++) {
+            for (int col = Math.max(0, clip.x / STATIC_TILE_SIZE); col <= lastCol; col++) {
+                g.drawImage(getStaticTile(row, col), col * STATIC_TILE_SIZE, row * STATIC_TILE_SIZE, null);
+            }
+        }
+    }
+
+    // Returns the range of blocks inside an area of the panel, as block coordinates
+    // Includes blocks whose borders spill into the area
+    private Rectangle getBlocksInside(Rectangle area) {
+        int firstRow = Math.max(0, (area.y - BORDER_WIDTH) / blockHeight);
+        int lastRow = Math.min(mazeHeight - 1, (area.y + area.height + BORDER_WIDTH) / blockHeight);
+        int firstCol = Math.max(0, (area.x - BORDER_WIDTH) / blockWidth);
+        int lastCol = Math.min(mazeWidth - 1, (area.x + area.width + BORDER_WIDTH) / blockWidth);
+
+        return new Rectangle(firstCol, firstRow, lastCol - firstCol + 1, lastRow - firstRow + 1);
+    }
+
+    // Returns a tile of the static layer, drawing it if it is not cached
+    private BufferedImage getStaticTile(int row, int col) {
+        long key = (long) row << 32 | col;
+
+        BufferedImage tile = staticTiles.get(key);
+        if (tile == null) {
+            tile = createStaticTile(row, col);
+            staticTiles.put(key, tile);
+        }
+
+        return tile;
+    }
+
+    // Creates an image of every Tree and border inside one tile, the Trails are left transparent
+    // Tiles on the right and bottom edges are cut to the size of the panel
+    private BufferedImage createStaticTile(int row, int col) {
+        Dimension size = getPreferredSize();
+        Rectangle area = getStaticTileArea(row, col);
+        area.width = Math.min(area.width, size.width - area.x);
+        area.height = Math.min(area.height, size.height - area.y);
+
+        BufferedImage tile = new BufferedImage(area.width, area.height, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        // Draws in panel coordinates, shifted so the tile starts at its corner
+        Graphics2D g = tile.createGraphics();
+        g.translate(-area.x, -area.y);
+        drawStaticBlocks(g, area);
+        g.dispose();
+
+        return tile;
+    }
+
+    // Returns the most tiles of the static layer that are kept
+    // Twice as many as the visible area can touch, so scrolling back and forth does not draw them again
+    private int getMaxStaticTiles() {
+        Rectangle visible = getVisibleRect();
+        int rows = (visible.height + STATIC_TILE_SIZE - 1) / STATIC_TILE_SIZE + 1;
+        int cols = (visible.width + STATIC_TILE_SIZE - 1) / STATIC_TILE_SIZE + 1;
+
+        return Math.max(MIN_STATIC_TILES, 2 * rows * cols);
+    }
+
+    // Returns the area of the panel covered by a tile of the static layer
+    private static Rectangle getStaticTileArea(int row, int col) {
+        return new Rectangle(col * STATIC_TILE_SIZE, row * STATIC_TILE_SIZE, STATIC_TILE_SIZE, STATIC_TILE_SIZE);
+    }
+
+    // Draws the Trees and borders inside an area of the panel
+    private void drawStaticBlocks(Graphics2D g, Rectangle area) {
+        Rectangle blocks = getBlocksInside(area);
+
+        // Draws every Tree
+        for (int i = blocks.y; i < blocks.y + blocks.height; i++) {
+            for (int j = blocks.x; j < blocks.x + blocks.width; j++) {
+                if (maze.isTree(j, i))
+                    getBlock(j, i).draw(this, g);
             }
         }
 
+        if (!drawBorders) return;
+
         // Draws the border around every block
-        for (PathBlock[] blocks : maze) {
-            for (PathBlock block : blocks) {
+        // Every block has the same size, so the Tree can draw all of them
+        g.setStroke(BORDER_STROKE);
+        for (int i = blocks.y; i < blocks.y + blocks.height; i++) {
+            for (int j = blocks.x; j < blocks.x + blocks.width; j++) {
                 // Passes in the graphics context only
-                block.drawBorder(g);
+                treeBlock.setLocation(j * blockWidth, i * blockHeight);
+                treeBlock.drawBorder(g);
             }
         }
     }
 
+    // Redraws the static layer around one block after it became or stopped being a Tree
+    // Only tiles that are cached are redrawn, the others are drawn when they are next painted
+    // Also repaints the block
+    protected void updateStaticBlock(int x, int y) {
+        Rectangle area = getBlockArea(x, y);
+
+        for (Map.Entry<Long, BufferedImage> entry : staticTiles.entrySet()) {
+            long key = entry.getKey();
+            Rectangle tileArea = getStaticTileArea((int) (key >>> 32), (int) key);
+            if (!tileArea.intersects(area)) continue;
+
+            Graphics2D g = entry.getValue().createGraphics();
+            g.translate(-tileArea.x, -tileArea.y);
+            g.setClip(area);
+
+            // Clears the area back to transparent before drawing it again
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(area.x, area.y, area.width, area.height);
+            g.setComposite(AlphaComposite.SrcOver);
+
+            drawStaticBlocks(g, area);
+            g.dispose();
+        }
+
+        repaintBlock(x, y);
+    }
+
+    // Throws away the static layer so it is drawn again on the next paint
+    protected void invalidateStaticLayer() {
+        staticTiles.clear();
+        repaint();
+    }
+
+    // Returns the PathBlock that draws the block at the given index
+    // Moves it to the location of the block in the panel
+    protected PathBlock getBlock(int x, int y) {
+        PathBlock block = maze.isTree(x, y) ? treeBlock : trailBlocks.get(maze.getState(x, y));
+        block.setLocation(x * blockWidth, y * blockHeight);
+
+        return block;
+    }
+
+    // Repaints only the area of one block, including its border
+    protected void repaintBlock(int x, int y) {
+        repaint(getBlockArea(x, y));
+    }
+
+    // Returns the area of the panel covered by one block, including its border
+    private Rectangle getBlockArea(int x, int y) {
+        return new Rectangle(x * blockWidth - BORDER_WIDTH, y * blockHeight - BORDER_WIDTH,
+                blockWidth + 2 * BORDER_WIDTH, blockHeight + 2 * BORDER_WIDTH);
+    }
+
+    // Repaints the block at a packed index in the maze
+    protected void repaintBlock(int index) {
+        repaintBlock(maze.getX(index), maze.getY(index));
+    }
+
     /* Getters for dimensions and coordinates */
     public int getMazeHeight() {
         return mazeHeight;
@@ -125,11 +362,11 @@ public abstract class MazePanel extends JPanel {
     }
 
     /* Setter and Getter methods for maze */
-    public PathBlock[][] getMaze() {
+    public MazeGrid getMaze() {
         return maze;
     }
 
-    public void setMaze(PathBlock[][] maze) {
+    public void setMaze(MazeGrid maze) {
         // Setter throws exception given null maze
         if (maze == null)
             throw new IllegalArgumentException("Maze cannot be null");
@@ -137,6 +374,19 @@ public abstract class MazePanel extends JPanel {
         // Sets maze
         this.maze = maze;
 
+        // The new maze may have different dimensions
+        if (maze.getHeight() != mazeHeight || maze.getWidth() != mazeWidth) {
+            updateDimensions();
+            revalidate();
+
+            // Moves the ranger back to the top left if it is no longer inside the maze
+            if (startIndex != null && !maze.contains(startIndex.x(), startIndex.y()))
+                startIndex = new Coordinate2D(0, 0);
+        }
+
+        // The Trees may have changed
+        staticTiles.clear();
+
         // Resets ranger since a new maze was applied
         ranger.resetSuccess();
 
@@ -166,4 +416,36 @@ public abstract class MazePanel extends JPanel {
         // Repaints since maze has been updated
         repaint();
     }
+
+    /* Scrollable methods, used when the panel is shown in a JScrollPane */
+
+    // A scroll pane is the size of the panel, however big the maze makes it
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(panelWidth, panelHeight);
+    }
+
+    // Scroll bar arrows move by whole blocks, or several small blocks at a time
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        int blockSize = orientation == SwingConstants.VERTICAL ? blockHeight : blockWidth;
+        return blockSize * Math.max(1, MIN_SCROLL_INCREMENT / blockSize);
+    }
+
+    // Clicking the scroll bar track moves by a whole view
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.VERTICAL ? visibleRect.height : visibleRect.width;
+    }
+
+    // The panel keeps its size when the scroll pane is bigger, since the blocks are sized from it
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
 }
@@ -0,0 +1,60 @@
+/**
+ * Immutable snapshot of a MazeGrid
+ * Shares the chunks of Trees and states with the grids it was taken from or creates,
+ * which copy a chunk before they write to it
+ * Taking a snapshot or creating a grid from one only copies the tables of chunks, never the blocks
+ *
+ * Nothing can change a snapshot, so it is safe to share between threads
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class MazeSnapshot {
+    // Dimensions of the maze
+    private final int height;
+    private final int width;
+
+    // Shared chunks of Trees and states, never written to
+    private final long[][] treeChunks;
+    private final byte[][] stateChunks;
+
+    // Packed index of the cabin, MazeGrid.NO_CABIN if it is not placed
+    private final int cabinIndex;
+
+    // Constructor, only used by MazeGrid
+    // The tables must not be used by anything else
+    MazeSnapshot(int height, int width, long[][] treeChunks, byte[][] stateChunks, int cabinIndex) {
+        this.height = height;
+        this.width = width;
+        this.treeChunks = treeChunks;
+        this.stateChunks = stateChunks;
+        this.cabinIndex = cabinIndex;
+    }
+
+    // Returns a new grid of this maze, which shares every chunk until it writes to it
+    public MazeGrid toGrid() {
+        return new MazeGrid(this);
+    }
+
+    /* Getters for dimensions and the cabin */
+    public int getHeight() {
+        return height;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getCabinIndex() {
+        return cabinIndex;
+    }
+
+    // Getters for the shared chunks, only used by MazeGrid
+    long[][] getTreeChunks() {
+        return treeChunks;
+    }
+
+    byte[][] getStateChunks() {
+        return stateChunks;
+    }
+}
@@ -0,0 +1,281 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Level synchronous Breadth First Search that runs on many threads
+ * Finds the distance from a start block to every reachable block of very large mazes
+ *
+ * Each level of the search expands the whole frontier at once
+ * The frontier is split into slices that are expanded in parallel on a ForkJoinPool,
+ * and every slice writes the blocks it discovers into its own buffer
+ * The buffers are joined into the next frontier once the level is finished
+ *
+ * Visited blocks are kept in an atomic bitset over the packed indices, which starts with every Tree set
+ * A block is only claimed by the one thread that sets its bit, so every distance is written once
+ * Gives the same distances as a serial Breadth First Search
+ *
+ * Unlike the SolverEngines, nothing is animated and the maze is never written to
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class ParallelBreadthFirstSearch {
+    // Distance of a block that cannot be reached, or is a Tree
+    public static final int UNREACHED = -1;
+
+    // Frontiers smaller than this are expanded on the calling thread
+    // Splitting them costs more than it saves
+    private static final int SERIAL_THRESHOLD = 2048;
+
+    // Smallest number of frontier blocks given to one slice
+    private static final int MIN_SLICE_SIZE = 1024;
+
+    // Number of slices for each thread, so threads that finish early can take more work
+    private static final int SLICES_PER_THREAD = 4;
+
+    // Dimensions of the maze
+    private final int height;
+    private final int width;
+
+    // Bitset of Trees, one bit per packed index
+    private final long[] trees;
+
+    // Pool the levels are expanded on
+    private final ForkJoinPool pool;
+
+    // Buffers of discovered blocks for each slice, reused for every level
+    private final int[][] sliceBuffers;
+    private final int[] sliceSizes;
+
+    // State of the current search
+    private AtomicLongArray visited;
+    private int[] distances;
+    private int[] frontier;
+    private int frontierSize;
+    private int level;
+
+    // Constructor using the common pool
+    public ParallelBreadthFirstSearch(MazeGrid maze) {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    // Constructor with the pool to search on
+    // The Trees are copied, so the grid can change afterwards without affecting the search
+    public ParallelBreadthFirstSearch(MazeGrid maze, ForkJoinPool pool) {
+        height = maze.getHeight();
+        width = maze.getWidth();
+        trees = maze.getTreeBits();
+        this.pool = pool;
+
+        int sliceCount = pool.getParallelism() * SLICES_PER_THREAD;
+        sliceBuffers = new int[sliceCount][];
+        sliceSizes = new int[sliceCount];
+        Arrays.fill(sliceBuffers, new int[0]);
+    }
+
+    // Returns the number of moves from the start to every block
+    // Blocks that cannot be reached, and Trees, are UNREACHED
+    // Searches are not thread safe, each thread should use its own ParallelBreadthFirstSearch
+    public int[] distances(int start) {
+        if (start < 0 || start >= height * width)
+            throw new IllegalArgumentException("Start is outside the maze");
+        if (isTree(start))
+            throw new IllegalArgumentException("Start is a Tree");
+
+        // Trees are marked as visited so they are never claimed
+        visited = new AtomicLongArray(trees);
+        distances = new int[height * width];
+        Arrays.fill(distances, UNREACHED);
+
+        claim(start);
+        distances[start] = 0;
+        frontier = new int[]{start};
+        frontierSize = 1;
+        level = 0;
+
+        while (frontierSize > 0) {
+            if (frontierSize < SERIAL_THRESHOLD)
+                expandSerially();
+
+            else expandInParallel();
+
+            level++;
+        }
+
+        // Drops the state of the search so it can be garbage collected
+        int[] result = distances;
+        visited = null;
+        distances = null;
+        frontier = null;
+
+        return result;
+    }
+
+    public int[] distances(MazePanel.Coordinate2D start) {
+        return distances(start.y() * width + start.x());
+    }
+
+    // Expands the frontier on the calling thread
+    private void expandSerially() {
+        sliceSizes[0] = 0;
+        expandSlice(0, 0, frontierSize);
+        joinSlices(1);
+    }
+
+    // Splits the frontier into slices and expands them on the pool
+    private void expandInParallel() {
+        int sliceCount = Math.min(sliceBuffers.length, (frontierSize + MIN_SLICE_SIZE - 1) / MIN_SLICE_SIZE);
+        Arrays.fill(sliceSizes, 0, sliceCount, 0);
+
+        pool.invoke(new ExpandTask(0, sliceCount, sliceCount));
+        joinSlices(sliceCount);
+    }
+
+    // Task that expands a range of slices, splitting it in half until there is one slice left
+    private final class ExpandTask extends RecursiveAction {
+        private final int firstSlice;
+        private final int endSlice;
+        private final int sliceCount;
+
+        ExpandTask(int firstSlice, int endSlice, int sliceCount) {
+            this.firstSlice = firstSlice;
+            this.endSlice = endSlice;
+            this.sliceCount = sliceCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (endSlice - firstSlice == 1) {
+                // Slices cover equal parts of the frontier
+                long start = (long) frontierSize * firstSlice / sliceCount;
+                long end = (long) frontierSize * endSlice / sliceCount;
+                expandSlice(firstSlice, (int) start, (int) end);
+                return;
+            }
+
+            int middle = (firstSlice + endSlice) >>> 1;
+            invokeAll(new ExpandTask(firstSlice, middle, sliceCount), new ExpandTask(middle, endSlice, sliceCount));
+        }
+    }
+
+    // Discovers the neighbours of part of the frontier, and writes them to the buffer of the slice
+    private void expandSlice(int slice, int start, int end) {
+        int[] buffer = sliceBuffers[slice];
+        int size = 0;
+        int newDistance = level + 1;
+
+        for (int i = start; i < end; i++) {
+            int index = frontier[i];
+            int x = index % width;
+
+            // Makes sure there is room for all four neighbours
+            if (size + 4 > buffer.length)
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, 64));
+
+            // Claims every neighbour inside the maze that is not a Tree and has not been visited
+            if (x > 0 && claim(index - 1)) {
+                distances[index - 1] = newDistance;
+                buffer[size++] = index - 1;
+            }
+
+            if (x < width - 1 && claim(index + 1)) {
+                distances[index + 1] = newDistance;
+                buffer[size++] = index + 1;
+            }
+
+            if (index >= width && claim(index - width)) {
+                distances[index - width] = newDistance;
+                buffer[size++] = index - width;
+            }
+
+            if (index < height * width - width && claim(index + width)) {
+                distances[index + width] = newDistance;
+                buffer[size++] = index + width;
+            }
+        }
+
+        sliceBuffers[slice] = buffer;
+        sliceSizes[slice] = size;
+    }
+
+    // Joins the buffers of the slices into the next frontier
+    private void joinSlices(int sliceCount) {
+        int size = 0;
+        for (int slice = 0; slice < sliceCount; slice++) {
+            size += sliceSizes[slice];
+        }
+
+        // The old frontier is reused if it is big enough
+        int[] next = frontier.length >= size ? frontier : new int[Math.max(size, frontier.length * 2)];
+        int offset = 0;
+        for (int slice = 0; slice < sliceCount; slice++) {
+            System.arraycopy(sliceBuffers[slice], 0, next, offset, sliceSizes[slice]);
+            offset += sliceSizes[slice];
+        }
+
+        frontier = next;
+        frontierSize = size;
+    }
+
+    // Sets the visited bit of a block
+    // Returns true if this thread set it, false if it was already set
+    private boolean claim(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+
+        long current = visited.get(word);
+        while ((current & bit) == 0) {
+            long witness = visited.compareAndExchange(word, current, current | bit);
+            if (witness == current)
+                return true;
+
+            current = witness;
+        }
+
+        return false;
+    }
+
+    // Returns if the block at the index is a Tree
+    private boolean isTree(int index) {
+        return (trees[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // Returns the number of moves from the start to every block using a serial Breadth First Search
+    // Used to check the parallel search, and as the baseline for its benchmark
+    public static int[] serialDistances(MazeGrid maze, int start) {
+        if (maze.isTree(start))
+            throw new IllegalArgumentException("Start is a Tree");
+
+        int width = maze.getWidth();
+        int[] distances = new int[maze.getCellCount()];
+        Arrays.fill(distances, UNREACHED);
+        distances[start] = 0;
+
+        IntQueue queue = new IntQueue();
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            int index = queue.poll();
+            int x = maze.getX(index);
+            int y = maze.getY(index);
+
+            for (MazePanel.Directions direction : SolverEngine.DIRECTIONS) {
+                int newX = x + direction.getMove().x();
+                int newY = y + direction.getMove().y();
+
+                // Makes sure that the new coordinate is valid, not a Tree and not reached yet
+                if (!maze.isTrail(newX, newY)) continue;
+
+                int newIndex = newY * width + newX;
+                if (distances[newIndex] != UNREACHED) continue;
+
+                distances[newIndex] = distances[index] + 1;
+                queue.add(newIndex);
+            }
+        }
+
+        return distances;
+    }
+}
@@ -0,0 +1,96 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line benchmark for the parallel Breadth First Search
+ * Finds the distance from the top left to every block of an open field of Trees,
+ * first with a serial search and then with pools of more and more threads
+ * Prints the best time of each and the scaling of the parallel search over its own run on one thread
+ *
+ * The serial search reads the maze grid, while the parallel search reads its own bitset of Trees,
+ * so comparing them would measure the layout of the maze more than the threads
+ * The serial search only gives the expected distances and a time for reference
+ *
+ * Also checks that every parallel search gives the same distances as the serial one
+ * Exits with status 1 if it does not
+ *
+ * Usage: java ParallelSearchBenchmark [size] [tree density] [runs] [seed] [max threads]
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class ParallelSearchBenchmark {
+    // Default settings when no arguments are given
+    private static final int DEFAULT_SIZE = 4000;
+    private static final double DEFAULT_DENSITY = 0.1;
+    private static final int DEFAULT_RUNS = 3;
+    private static final long DEFAULT_SEED = 42;
+
+    // Runs the benchmark
+    public static void main(String[] args) {
+        // Reads the settings, using the defaults for any that are missing
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_DENSITY;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        int maxThreads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        MazeGrid maze = SolverBenchmark.createField(size, density, seed);
+
+        System.out.printf("%dx%d field, %.0f%% trees, best of %d runs%n", size, size, density * 100, runs);
+        System.out.printf("%-10s %12s %12s%n", "Threads", "Time (ms)", "Scaling");
+
+        // The serial search gives the expected distances
+        int[] expected = null;
+        long serialTime = Long.MAX_VALUE;
+        for (int i = 0; i <= runs; i++) {
+            long startTime = System.nanoTime();
+            expected = ParallelBreadthFirstSearch.serialDistances(maze, 0);
+            long time = System.nanoTime() - startTime;
+
+            // The first run warms up the JIT
+            if (i > 0)
+                serialTime = Math.min(serialTime, time);
+        }
+
+        System.out.printf("%-10s %12.2f %12s%n", "Serial", serialTime / 1e6, "-");
+
+        // Doubles the number of threads each time, always ending with the maximum
+        // The run on one thread is the baseline the others are scaled against
+        boolean matches = true;
+        long oneThreadTime = 0;
+        for (int threads = 1; ; threads = Math.min(threads * 2, maxThreads)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            ParallelBreadthFirstSearch search = new ParallelBreadthFirstSearch(maze, pool);
+
+            long bestTime = Long.MAX_VALUE;
+            for (int i = 0; i <= runs; i++) {
+                long startTime = System.nanoTime();
+                int[] distances = search.distances(0);
+                long time = System.nanoTime() - startTime;
+
+                if (i > 0)
+                    bestTime = Math.min(bestTime, time);
+
+                if (!Arrays.equals(distances, expected))
+                    matches = false;
+            }
+
+            pool.shutdown();
+
+            if (threads == 1)
+                oneThreadTime = bestTime;
+
+            System.out.printf("%-10d %12.2f %12.2f%n", threads, bestTime / 1e6, (double) oneThreadTime / bestTime);
+
+            if (threads >= maxThreads)
+                break;
+        }
+
+        // Fails the benchmark if any distances were different
+        if (!matches) {
+            System.out.println("Parallel distances do not match the serial search");
+            System.exit(1);
+        }
+    }
+}
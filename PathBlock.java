@@ -46,8 +46,8 @@ public abstract class PathBlock extends Rectangle
             g.setColor(backgroundColour);
             g.fillRect((int)getX(), (int)getY(), (int)getWidth(), (int)getHeight());
 
-            // Draws icon
-            icon.paintIcon(panel, g, (int)getX(), (int)getY());
+            // Draws icon, scaled to the size of the block
+            g.drawImage(icon.getImage(), (int)getX(), (int)getY(), (int)getWidth(), (int)getHeight(), panel);
         }
         // If it isn't then fill the background with the default colour
         else {
@@ -66,19 +66,13 @@ public abstract class PathBlock extends Rectangle
 
     // Attempts to update the ImageIcon, if it does not work,
     // then validImage is set to false
+    // Icons come from the ImageCache, so each image is only loaded once
     protected void updateIcon(String filepath, Color newDefaultColour) {
         // Updates the default colour to the colour matching this icon
         defaultColour = newDefaultColour;
 
-        // Gets the URL of the file path to be validated
-        java.net.URL imageURL = getClass().getResource(filepath);
-
-        // If the URL is valid, create an ImageIcon
-        if (imageURL != null) {
-            validImage = true;
-            icon = new ImageIcon(imageURL);
-        }
-        // If the URL is invalid
-        else validImage = false;
+        // Gets the shared icon, null if the file path is invalid
+        icon = ImageCache.getIcon(filepath);
+        validImage = icon != null;
     }
 }
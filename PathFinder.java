@@ -1,39 +1,63 @@
+import javax.swing.SwingWorker;
 import javax.swing.Timer;
 import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.Stack;
 import java.awt.Graphics;
 import java.awt.event.ActionListener;
 import java.awt.event.ActionEvent;
+import java.util.concurrent.ExecutionException;
 
 /**
- * PathFinder which solves a maze of PathBlocks
- * Uses Depth First Search 
+ * PathFinder which solves a MazeGrid
+ * Uses the selected search strategy, Depth First Search by default
  * 
  * Animates a ranger finding a cabin using a swing timer
- * Keeps track of position and uses a stack of Coordinate2D for DFS
+ * The search itself is done by a SolverEngine,
+ * each tick of the timer takes one step of the engine on the maze
+ * Only the Trails that changed and the ranger are repainted each tick
+ *
+ * The distance field strategy needs a search of the whole maze first, which is done in the background
+ * Until it is ready the search is a Breadth First Search, which finds a path of the same length
  *
  *
  * @author Asif Rahman
- * @version 09/05/2023
+ * @version 17/10/2026
  */
 public class PathFinder extends MazePanel implements ActionListener
 {
     // Number of ms between timer events
     private static int updateTime = 250;
 
-    // Maps traversal states to the direction of movement
-    private static EnumMap<Trail.TraversalState, Directions> stateDirections = null;
-    
-    // Stack for Depth First Search
-    // Contains Coordinate2D for location in maze
-    private final Stack<Coordinate2D> traversalStack;
+    // Strategy used to search the maze
+    private SolverEngine.Strategy strategy = SolverEngine.Strategy.DEPTH_FIRST;
+
+    // Headless engine that does the search
+    private SolverEngine engine;
+
+    // If the search has ended, either because the engine finished or the cabin could not be reached
+    // The engine does not finish when the search ends early, so this stops it ending again
+    private boolean ended;
+
+    // Cache of finished searches, null if searches are not cached
+    // A search of a maze, start and strategy that is cached is replayed instead
+    private SolveCache solveCache;
 
-    // The default direction of the ranger is south
-    private final Directions DEFAULT_DIRECTION = Directions.SOUTH;
+    // Key of the current search in the cache, null until its first step
+    private SolveCache.Key solveKey;
 
-    // Direction that the Ranger is currently facing
-    private Directions currentDirection;
+    // Distances to the cabin used by the distance field strategy, null until it is first used
+    // Kept when the maze is replaced, and only found again once the Trees or the cabin change
+    private DistanceField distanceField;
+
+    // Maze the distance field is known to match, null until it has been checked against the current maze
+    // The field is null for a maze without a cabin
+    private MazeGrid distanceFieldMaze;
+
+    // Worker finding the distance field in the background, null if none is running
+    private SwingWorker<DistanceField, Void> distanceFieldWorker;
+
+    // Connected components of the maze, null if they are not known
+    // Used to end the search straight away when the cabin cannot be reached
+    private ConnectedComponents components;
     
     // Timer to animate the DFS with the ranger
     private final Timer timer;
@@ -42,29 +66,12 @@ public class PathFinder extends MazePanel implements ActionListener
     private final ArrayList<PathFinderListener> listeners;
     
     // Constructor
-    public PathFinder(int mazeHeight, int mazeWidth, int panelHeight, int panelWidth, PathBlock[][] maze) {
+    public PathFinder(int panelHeight, int panelWidth, MazeGrid maze) {
         // Calls MazePanel constructor
-        super(mazeHeight, mazeWidth, panelHeight, panelWidth, maze);
-
-        // Initializes stack of indices
-        traversalStack = new Stack<>();
+        super(panelHeight, panelWidth, maze);
 
-        // Adds the rangers starting index to the Stack
-        traversalStack.push(startIndex);
-
-        // Facing default direction to start purely for design
-        currentDirection = DEFAULT_DIRECTION;
-
-        // Initializes the EnumMap if it is null
-        if (stateDirections == null) {
-            stateDirections = new EnumMap<>(Trail.TraversalState.class);
-
-            // Adds 4 directions mapped to traversal states
-            stateDirections.put(Trail.TraversalState.DISCOVERED_N, Directions.NORTH);
-            stateDirections.put(Trail.TraversalState.DISCOVERED_E, Directions.EAST);
-            stateDirections.put(Trail.TraversalState.DISCOVERED_S, Directions.SOUTH);
-            stateDirections.put(Trail.TraversalState.DISCOVERED_W, Directions.WEST);
-        }
+        // Creates an engine to search from the rangers starting index
+        resetEngine();
 
         // Creates timer object for animation
         timer = new Timer(updateTime, this);
@@ -75,90 +82,152 @@ public class PathFinder extends MazePanel implements ActionListener
     
     // Action performed called by timer
     public void actionPerformed(ActionEvent e) {
-        // If the stack is empty, the maze cannot be solved
-        // End the PathFinder, giving false as no path was found
-        if (traversalStack.isEmpty()) {
+        // Nothing left to animate once the search is over
+        if (ended) return;
+
+        // Ends without exploring the maze if the cabin cannot be reached
+        if (!isCabinReachable()) {
             endPathFinder(false);
             return;
         }
 
-        // Location of ranger
-        Coordinate2D rangerIndex = traversalStack.peek();
-        
-        // Variables with short names for convenience
-        int col = rangerIndex.x();
-        int row = rangerIndex.y();
-
-        
-        // If the ranger is not on a Trail, it is likely on a Tree
-        // Throw an Exception because that should never happen
-        if (!(maze[row][col] instanceof Trail currentBlock)) {
-            throw new IllegalStateException("Ranger must be on a Trail");
+        // Replays the search if it has been done before
+        if (engine.getSteps() == 0)
+            useCachedSolution();
+
+        // Location of the ranger before it moves
+        Coordinate2D oldRangerLocation = getRangerLocation();
+
+        // Takes one step of the search
+        // The engine updates the traversal states in the maze and repaints the Trails that changed
+        engine.step();
+
+        // Ends the PathFinder if the engine found the cabin or ran out of Trails
+        if (engine.isFinished()) {
+            endPathFinder(engine.getOutcome() == SolverEngine.Outcome.PATH_FOUND);
+            return;
+        }
+
+        // Repaints where the ranger was and where it is now
+        Coordinate2D newRangerLocation = getRangerLocation();
+        repaintBlock(oldRangerLocation.x(), oldRangerLocation.y());
+        repaintBlock(newRangerLocation.x(), newRangerLocation.y());
+    }
+
+    // Creates a new engine for the current maze and start index
+    private void resetEngine() {
+        // Moving the ranger does not change the distances, so the field is reused
+        if (strategy == SolverEngine.Strategy.DISTANCE_FIELD && distanceFieldMaze == maze)
+            setEngine(new DistanceFieldSolver(maze, startIndex, distanceField));
+
+        // Searches breadth first until the field of this maze is ready
+        else if (strategy == SolverEngine.Strategy.DISTANCE_FIELD) {
+            setEngine(SolverEngine.Strategy.BREADTH_FIRST.create(maze, startIndex));
+            findDistanceField();
         }
 
-        // Handles the new state of the current block
-        // All previous states should have been handled already
-        switch (currentBlock.nextState()) {
-            // Attempts to add the block in that direction to the stack
-            // Uses the state direction that corresponds with the current traversal state
-            case DISCOVERED_N, DISCOVERED_E, DISCOVERED_S, DISCOVERED_W ->
-                    addIfUndiscovered(col, row, stateDirections.get(currentBlock.getTraversalState()));
-
-            // This path is fully explored, pop it from the stack
-            // Updates the direction of the ranger
-            case EXPLORED -> {
-                traversalStack.pop();
-
-                // Face south if the stack is empty
-                if (traversalStack.isEmpty()) {
-                    currentDirection = Directions.SOUTH;
+        else setEngine(strategy.create(maze, startIndex));
+
+        solveKey = null;
+        ended = false;
+    }
+
+    // Finds the distance field of a snapshot of the maze in the background
+    // Checking the old field and finding a new one both read the whole maze, so neither is done on the event dispatch thread
+    // If the maze is replaced before it finishes, it is started again
+    private void findDistanceField() {
+        // The running worker starts a new one once it sees the maze changed
+        if (distanceFieldWorker != null) return;
+
+        MazeGrid fieldMaze = maze;
+        MazeSnapshot snapshot = maze.snapshot();
+        DistanceField oldField = distanceField;
+
+        distanceFieldWorker = new SwingWorker<>() {
+            @Override
+            protected DistanceField doInBackground() {
+                MazeGrid grid = snapshot.toGrid();
+                if (grid.getCabinIndex() == MazeGrid.NO_CABIN)
+                    return null;
+
+                // A field that still matches the Trees and cabin is kept
+                if (oldField != null && oldField.matches(grid))
+                    return oldField;
+
+                return new DistanceField(grid);
+            }
+
+            // Runs on the event dispatch thread once the field is found
+            @Override
+            protected void done() {
+                distanceFieldWorker = null;
+
+                // The maze was replaced while finding the field, so it is found again if it is still needed
+                if (fieldMaze != maze) {
+                    if (strategy == SolverEngine.Strategy.DISTANCE_FIELD)
+                        findDistanceField();
+
                     return;
                 }
 
-                // Gets coordinates of previous Trail
-                col = traversalStack.peek().x();
-                row = traversalStack.peek().y();
+                try {
+                    distanceField = get();
+                    distanceFieldMaze = fieldMaze;
+                }
+
+                // Searches stay breadth first if the field could not be found
+                catch (InterruptedException | ExecutionException e) {
+                    return;
+                }
 
-                // Updates the current direction based on the traversal state of the previous Trail
-                currentDirection = stateDirections.get(((Trail)maze[row][col]).getTraversalState());
+                // Walks the field instead if the search has not started yet
+                if (strategy == SolverEngine.Strategy.DISTANCE_FIELD && !ended && engine.getSteps() == 0) {
+                    setEngine(new DistanceFieldSolver(maze, startIndex, distanceField));
+                    repaint();
+                }
             }
+        };
 
-            // Successfully found the cabin, end the PathFinder
-            case CABIN -> endPathFinder(true);
+        distanceFieldWorker.execute();
+    }
 
-            // The next state of a block should never be UNDISCOVERED, since it's the first state
-            case UNDISCOVERED -> throw new IllegalStateException("Next state of Block is UNDISCOVERED");
-        }
+    // Replaces the engine
+    private void setEngine(SolverEngine engine) {
+        this.engine = engine;
 
-        // Repaints the panel
-        repaint();
+        // Repaints every Trail the engine changes
+        engine.setStateListener(this::repaintBlock);
     }
 
-    // Tries to move the ranger in the given direction
-    // Takes the current location of the ranger and direction af movement
-    private void addIfUndiscovered(int xLoc, int yLoc, Directions movementDirection) {
-        // Since the ranger is trying to move to this square,
-        // it should face the movement direction
-        currentDirection = movementDirection;
+    // Looks up the search in the cache before it starts
+    // Replays the cached solution if there is one, otherwise the search is cached when it ends
+    private void useCachedSolution() {
+        // Walking the distance field is already as quick as a replay
+        if (solveCache == null || strategy == SolverEngine.Strategy.DISTANCE_FIELD) return;
 
-        // Calculates the new movement direction
-        int newX = xLoc + movementDirection.getMove().x();
-        int newY = yLoc + movementDirection.getMove().y();
+        solveKey = SolveCache.Key.of(maze, startIndex, strategy);
+        SolveCache.Solution solution = solveCache.get(solveKey);
 
-        // Makes sure that the new coordinate is valid
-        if (newX < 0 || newX >= mazeWidth) return;
-        if (newY < 0 || newY >= mazeHeight) return;
+        if (solution != null) {
+            setEngine(new ReplaySolver(maze, startIndex, solution));
+            solveKey = null;
+        }
+    }
 
-        // If the block is not a Trail (it is a Tree),
-        // Then the ranger cannot traverse it, return
-        if (!(maze[newY][newX] instanceof Trail newTrail)) return;
+    // Returns if the cabin can be reached from the start index
+    // Assumes it can if the components of the maze are not known
+    private boolean isCabinReachable() {
+        if (components == null)
+            return true;
 
-        // If the new Trail has already been discovered then
-        // It is on the stack and should not be pushed again
-        if (newTrail.isDiscovered()) return;
+        return maze.getCabinIndex() != MazeGrid.NO_CABIN
+                && components.isConnected(maze.index(startIndex), maze.getCabinIndex());
+    }
 
-        // Add the index to the stack since it is valid
-        traversalStack.push(new Coordinate2D(newX, newY));
+    // Returns the location of the ranger
+    // Once the search is over the ranger is shown at the start
+    private Coordinate2D getRangerLocation() {
+        return engine.isFinished() ? startIndex : engine.getRangerIndex();
     }
     
     // Override of paintComponent to draw
@@ -167,47 +236,62 @@ public class PathFinder extends MazePanel implements ActionListener
     public void paintComponent(Graphics graphics) {
         super.paintComponent(graphics);
 
-        // Coordinates to draw the Ranger
-        int x;
-        int y;
+        // Gets the coordinates in grid of ranger
+        Coordinate2D rangerIndex = getRangerLocation();
 
-        // Get the coordinates from the stack if possible
-        if (!traversalStack.isEmpty()) {
-            // Gets the coordinates in grid of ranger
-            Coordinate2D rangerIndex = traversalStack.peek();
+        // Calculates the x and y coordinates in pixels of ranger
+        int x = rangerIndex.x() * blockWidth;
+        int y = rangerIndex.y() * blockHeight;
 
-            // Calculates the x and y coordinates in pixels of ranger
-            x = rangerIndex.x() * blockWidth;
-            y = rangerIndex.y() * blockHeight;
-        }
+        // Draws ranger
+        ranger.draw(this, graphics, engine.getDirection(), x, y, blockWidth, blockHeight);
+    }
 
-        // Otherwise draw the ranger at the start
-        else {
-            x = startIndex.x() * blockWidth;
-            y = startIndex.y() * blockHeight;
-        }
+    // Overrides the setter for maze, since the engine needs to search the new maze
+    @Override
+    public void setMaze(MazeGrid maze) {
+        // Validates and sets the new maze
+        super.setMaze(maze);
 
-        // Draws ranger
-        ranger.draw(this, graphics, currentDirection, x, y, blockWidth, blockHeight);
+        // The components of the old maze no longer apply
+        components = null;
+
+        // Restarts the search on the new maze
+        resetEngine();
     }
 
-    // Overrides the setter for startIndex, since the stack needs to be updated as well
+    // Overrides the setter for startIndex, since the engine needs to be updated as well
     @Override
     public void setStartIndex(Coordinate2D startIndex) {
         // Validates and sets the new start index
         super.setStartIndex(startIndex);
 
-        // Updates the stack to contain only the new index
-        traversalStack.clear();
-        traversalStack.push(startIndex);
-
-        // Makes sure the ranger faces default direction when reset
-        currentDirection = DEFAULT_DIRECTION;
+        // Restarts the search from the new index
+        // The ranger faces default direction when reset
+        resetEngine();
 
         // Repaints to show updates
         repaint();
     }
 
+    // Setter for the connected components of the maze, which must match the current maze
+    // Null if they are not known, then every search runs until it runs out of Trails
+    public void setComponents(ConnectedComponents components) {
+        this.components = components;
+    }
+
+    // Setter for the cache of finished searches
+    // Null to stop caching searches
+    public void setSolveCache(SolveCache solveCache) {
+        this.solveCache = solveCache;
+        solveKey = null;
+    }
+
+    // Getter for the cache of finished searches, null if searches are not cached
+    public SolveCache getSolveCache() {
+        return solveCache;
+    }
+
     // Setter for the updateTime variable
     // Updates the timer delay with new speed
     public void setUpdateTime(int updateTime) {
@@ -216,6 +300,22 @@ public class PathFinder extends MazePanel implements ActionListener
         timer.setDelay(updateTime);
     }
 
+    // Setter for the search strategy
+    // Resets the PathFinder so the new strategy starts from the beginning
+    public void setStrategy(SolverEngine.Strategy strategy) {
+        // Strategy cannot be null
+        if (strategy == null)
+            throw new IllegalArgumentException("Strategy cannot be null");
+
+        this.strategy = strategy;
+        resetPathFinder();
+    }
+
+    // Getter for the search strategy
+    public SolverEngine.Strategy getStrategy() {
+        return strategy;
+    }
+
     // Resets the PathFinder by resetting the maze, ranger and current direction and
     // Fires a reset event
     public void resetPathFinder() {
@@ -231,9 +331,16 @@ public class PathFinder extends MazePanel implements ActionListener
     }
 
     // Starts timer and fires timerStarted
+    // Mazes that cannot be solved end straight away
+    // Does nothing once the search is over
     public void start() {
+        if (ended) return;
+
         timer.start();
         fireTimerStarted();
+
+        if (!isCabinReachable())
+            endPathFinder(false);
     }
 
     // Stops timer and fires timerStopped
@@ -271,13 +378,19 @@ public class PathFinder extends MazePanel implements ActionListener
     private void endPathFinder(boolean pathFound) {
         // Stops the timer
         timer.stop();
-
-        // Clears the stack
-        traversalStack.clear();
+        ended = true;
 
         // Set the success state of the ranger based on if it found a path
         ranger.setSuccess(pathFound);
 
+        // Caches a search that ran to the end, so it is replayed next time
+        if (solveKey != null && engine.isFinished()) {
+            if (solveCache.fits(SolveCache.Solution.estimateBytes(engine)))
+                solveCache.put(solveKey, SolveCache.Solution.of(engine));
+
+            solveKey = null;
+        }
+
         // Repaints to show the rangers new image
         repaint();
 
@@ -291,67 +404,67 @@ public class PathFinder extends MazePanel implements ActionListener
 
     // Fires a pathFound event as the maze was solved
     private void firePathFound() {
-        // If the stack is empty the ranger is at the start
-        Coordinate2D rangerLocation = traversalStack.isEmpty() ? startIndex : traversalStack.peek();
+        // Location of the ranger at the time of the event
+        Coordinate2D rangerLocation = getRangerLocation();
 
         // Fires the event for every added listener
         for (PathFinderListener listener : listeners) {
-            listener.pathFound(new PathFinderEvent(this, rangerLocation, currentDirection));
+            listener.pathFound(new PathFinderEvent(this, rangerLocation, engine.getDirection()));
         }
     }
 
     // Fires a noPathFound event as the maze was fully explored
     private void fireNoPathFound() {
-        // If the stack is empty the ranger is at the start
-        Coordinate2D rangerLocation = traversalStack.isEmpty() ? startIndex : traversalStack.peek();
+        // Location of the ranger at the time of the event
+        Coordinate2D rangerLocation = getRangerLocation();
 
         // Fires the event for every added listener
         for (PathFinderListener listener : listeners) {
-            listener.noPathFound(new PathFinderEvent(this, rangerLocation, currentDirection));
+            listener.noPathFound(new PathFinderEvent(this, rangerLocation, engine.getDirection()));
         }
     }
 
     // Fires a timerStarted event
     private void fireTimerStarted() {
-        // If the stack is empty the ranger is at the start
-        Coordinate2D rangerLocation = traversalStack.isEmpty() ? startIndex : traversalStack.peek();
+        // Location of the ranger at the time of the event
+        Coordinate2D rangerLocation = getRangerLocation();
 
         // Fires the event for every added listener
         for (PathFinderListener listener : listeners) {
-            listener.timerStarted(new PathFinderEvent(this, rangerLocation, currentDirection));
+            listener.timerStarted(new PathFinderEvent(this, rangerLocation, engine.getDirection()));
         }
     }
 
     // Fires a timerStopped event
     private void fireTimerStopped() {
-        // If the stack is empty the ranger is at the start
-        Coordinate2D rangerLocation = traversalStack.isEmpty() ? startIndex : traversalStack.peek();
+        // Location of the ranger at the time of the event
+        Coordinate2D rangerLocation = getRangerLocation();
 
         // Fires the event for every added listener
         for (PathFinderListener listener : listeners) {
-            listener.timerStopped(new PathFinderEvent(this, rangerLocation, currentDirection));
+            listener.timerStopped(new PathFinderEvent(this, rangerLocation, engine.getDirection()));
         }
     }
 
     // Fires a frameSkipped event
     private void fireFrameSkipped() {
-        // If the stack is empty the ranger is at the start
-        Coordinate2D rangerLocation = traversalStack.isEmpty() ? startIndex : traversalStack.peek();
+        // Location of the ranger at the time of the event
+        Coordinate2D rangerLocation = getRangerLocation();
 
         // Fires the event for every added listener
         for (PathFinderListener listener : listeners) {
-            listener.frameSkipped(new PathFinderEvent(this, rangerLocation, currentDirection));
+            listener.frameSkipped(new PathFinderEvent(this, rangerLocation, engine.getDirection()));
         }
     }
 
     // Fires a reset event
     private void fireReset() {
-        // If the stack is empty the ranger is at the start
-        Coordinate2D rangerLocation = traversalStack.isEmpty() ? startIndex : traversalStack.peek();
+        // Location of the ranger at the time of the event
+        Coordinate2D rangerLocation = getRangerLocation();
 
         // Fires the event for every added listener
         for (PathFinderListener listener : listeners) {
-            listener.reset(new PathFinderEvent(this, rangerLocation, currentDirection));
+            listener.reset(new PathFinderEvent(this, rangerLocation, engine.getDirection()));
         }
     }
 }
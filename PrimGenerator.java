@@ -0,0 +1,88 @@
+import java.util.SplittableRandom;
+
+/**
+ * MazeGenerator which uses a randomized version of Prim's algorithm
+ * Grows the maze out from the first cell
+ * Each step takes a random cell on the frontier, next to the maze,
+ * and joins it to a random neighbour that is already part of the maze
+ * Gives mazes with many short dead ends branching off in every direction
+ *
+ * The frontier is kept in an IntStack of cells, and a random cell is removed by moving the top cell into its place
+ * Cells that are on the frontier are marked in a bitset, so each is only added once
+ * A cell is part of the maze once it is a Trail
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class PrimGenerator extends MazeGenerator {
+    // Directions a cell can join the maze in
+    private static final MazePanel.Directions[] DIRECTIONS = MazePanel.Directions.values();
+
+    // Constructor
+    public PrimGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    protected void generate(MazeGrid maze, SplittableRandom random) {
+        maze.fill(true);
+
+        int cellsX = cellCount(maze.getWidth());
+        int cellsY = cellCount(maze.getHeight());
+
+        // Cells next to the maze, as packed cell indices
+        IntStack frontier = new IntStack();
+
+        // Bitset of the cells that have been added to the frontier
+        long[] added = new long[(int) (((long) cellsX * cellsY + 63) >>> 6)];
+
+        // Directions that lead into the maze, reused for every step
+        int[] choices = new int[DIRECTIONS.length];
+
+        maze.setTree(cellBlock(maze, 0, 0), false);
+        added[0] = 1;
+        addNeighbours(frontier, added, 0, 0, cellsX, cellsY);
+
+        while (!frontier.isEmpty()) {
+            // Removes a random cell, the order of the frontier does not matter
+            int cell = frontier.swapRemove(random.nextInt(frontier.size()));
+
+            int cellX = cell % cellsX;
+            int cellY = cell / cellsX;
+
+            // Finds every neighbour that is already part of the maze
+            int choiceCount = 0;
+            for (int i = 0; i < DIRECTIONS.length; i++) {
+                int newX = cellX + DIRECTIONS[i].getMove().x();
+                int newY = cellY + DIRECTIONS[i].getMove().y();
+
+                if (newX >= 0 && newX < cellsX && newY >= 0 && newY < cellsY
+                        && !maze.isTree(cellBlock(maze, newX, newY)))
+                    choices[choiceCount++] = i;
+            }
+
+            // Joins the cell to one of them, carving the wall and the cell
+            MazePanel.Coordinate2D move = DIRECTIONS[choices[random.nextInt(choiceCount)]].getMove();
+            maze.setTree(maze.index(cellX * 2 + move.x(), cellY * 2 + move.y()), false);
+            maze.setTree(cellBlock(maze, cellX, cellY), false);
+
+            addNeighbours(frontier, added, cellX, cellY, cellsX, cellsY);
+        }
+    }
+
+    // Adds every neighbour of a cell that has not been added yet to the frontier
+    private static void addNeighbours(IntStack frontier, long[] added, int cellX, int cellY, int cellsX, int cellsY) {
+        for (MazePanel.Directions direction : DIRECTIONS) {
+            int newX = cellX + direction.getMove().x();
+            int newY = cellY + direction.getMove().y();
+
+            if (newX < 0 || newX >= cellsX || newY < 0 || newY >= cellsY) continue;
+
+            int cell = newY * cellsX + newX;
+            if ((added[cell >>> 6] & (1L << cell)) != 0) continue;
+
+            added[cell >>> 6] |= 1L << cell;
+            frontier.push(cell);
+        }
+    }
+}
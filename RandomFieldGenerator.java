@@ -0,0 +1,53 @@
+import java.util.SplittableRandom;
+
+/**
+ * MazeGenerator which scatters Trees over an open field
+ * Every block is a Tree with the same chance, the tree density
+ * Unlike the perfect mazes, there can be many paths to the cabin or none at all
+ *
+ * The ranger is in the top left and the cabin in the bottom right corner
+ * No memory is used beyond the grid
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class RandomFieldGenerator extends MazeGenerator {
+    // Tree density used when none is given
+    public static final double DEFAULT_DENSITY = 0.3;
+
+    // Chance of each block being a Tree
+    private final double density;
+
+    // Constructor
+    public RandomFieldGenerator(long seed, double density) {
+        super(seed);
+
+        if (!(density >= 0 && density <= 1))
+            throw new IllegalArgumentException("Tree density must be between 0 and 1");
+
+        this.density = density;
+    }
+
+    @Override
+    protected void generate(MazeGrid maze, SplittableRandom random) {
+        for (int i = 0; i < maze.getCellCount(); i++) {
+            if (random.nextDouble() < density)
+                maze.setTree(i, true);
+        }
+    }
+
+    @Override
+    protected boolean isPerfect() {
+        return false;
+    }
+
+    @Override
+    protected int getCabinIndex(MazeGrid maze) {
+        return maze.getCellCount() - 1;
+    }
+
+    // Getter for the tree density
+    public double getDensity() {
+        return density;
+    }
+}
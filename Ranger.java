@@ -71,19 +71,16 @@ public class Ranger
         failureIcon = getImage(FAILURE_ICON_PATH);
     }
 
-    // Attempts to load an image from a file path
+    // Attempts to get an image from a file path
+    // Images are shared through the ImageCache, so every Ranger uses the same ones
     private ImageIcon getImage(String imagePath) {
-        // Gets the URL of the image file
-        java.net.URL imageURL = getClass().getResource(imagePath);
+        ImageIcon image = ImageCache.getIcon(imagePath);
 
-        // If the URL is valid, create an ImageIcon
-        if (imageURL != null) {
-            return new ImageIcon(imageURL);
-        }
+        // If the image fails to load, return null
+        if (image == null)
+            imagesLoaded = false;
 
-        // Otherwise the image fails to load, return null
-        imagesLoaded = false;
-        return null;
+        return image;
     }
 
     // Draws the Ranger using the icon if possible
@@ -99,7 +96,8 @@ public class Ranger
                 case FAILURE -> failureIcon;
             };
 
-            rangerImage.paintIcon(panel, g, x, y);
+            // Scales the image to the size of the block
+            g.drawImage(rangerImage.getImage(), x, y, width, height, panel);
         }
 
         // Otherwise fill in the square with default colour
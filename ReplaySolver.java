@@ -0,0 +1,106 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SolverEngine which replays a cached search instead of searching
+ * Used when a SolveCache already has the solution of the maze, ranger and strategy
+ *
+ * Each step moves the ranger to the next Trail in the visit order of the search and explores it
+ * Once every Trail has been visited, the ranger walks the path from the start to the cabin,
+ * turning each block to the direction it leaves in
+ * Ends with the same outcome, path and visit order as the search that was cached
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class ReplaySolver extends SolverEngine {
+    // Solution being replayed
+    private final SolveCache.Solution solution;
+
+    // Number of blocks of the visit order, then the path, that have been replayed
+    private int position;
+
+    // Packed index of the block the ranger is on
+    private int rangerIndex;
+
+    // Constructor
+    public ReplaySolver(MazeGrid maze, MazePanel.Coordinate2D startIndex, SolveCache.Solution solution) {
+        // Calls SolverEngine constructor
+        super(maze, startIndex);
+
+        if (solution == null)
+            throw new IllegalArgumentException("Solution cannot be null");
+
+        this.solution = solution;
+        rangerIndex = maze.index(startIndex);
+    }
+
+    @Override
+    protected int nextStep() {
+        int[] visitOrder = solution.visitOrder();
+        int[] path = solution.path();
+
+        // Explores the Trails in the order the search visited them
+        if (position < visitOrder.length) {
+            moveRanger(visitOrder[position++]);
+            visit(rangerIndex);
+
+            // The cabin keeps its state
+            if (rangerIndex == maze.getCabinIndex())
+                return NO_CHANGE;
+
+            setState(rangerIndex, Trail.TraversalState.EXPLORED);
+            return rangerIndex;
+        }
+
+        // Then walks the path to the cabin, if there is one
+        int pathPosition = position - visitOrder.length;
+        if (pathPosition < path.length) {
+            position++;
+            moveRanger(path[pathPosition]);
+
+            // Reaching the last block of the path ends the replay
+            if (pathPosition == path.length - 1) {
+                finish(solution.outcome() == Outcome.PATH_FOUND);
+                return NO_CHANGE;
+            }
+
+            setState(rangerIndex, discoveredState(directionBetween(rangerIndex, path[pathPosition + 1])));
+            return rangerIndex;
+        }
+
+        finish(solution.outcome() == Outcome.PATH_FOUND);
+        return NO_CHANGE;
+    }
+
+    // Moves the ranger to a block, facing the way it moved
+    private void moveRanger(int index) {
+        if (index != rangerIndex)
+            currentDirection = directionBetween(rangerIndex, index);
+
+        rangerIndex = index;
+    }
+
+    @Override
+    public List<MazePanel.Coordinate2D> getPath() {
+        if (getOutcome() != Outcome.PATH_FOUND)
+            return List.of();
+
+        ArrayList<MazePanel.Coordinate2D> path = new ArrayList<>(solution.pathLength());
+        for (int index : solution.path()) {
+            path.add(maze.getCoordinate(index));
+        }
+
+        return path;
+    }
+
+    @Override
+    public int getPathLength() {
+        return getOutcome() == Outcome.PATH_FOUND ? solution.pathLength() : 0;
+    }
+
+    @Override
+    public MazePanel.Coordinate2D getRangerIndex() {
+        return maze.getCoordinate(rangerIndex);
+    }
+}
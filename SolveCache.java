@@ -0,0 +1,190 @@
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of finished searches, so solving the same maze again does not search it again
+ * Mazes are reset and solved again from the same start, and batches often contain the same maze more than once
+ *
+ * Searches are keyed by a hash of the Trees of the maze, the ranger, the cabin and the strategy
+ * The cache keeps the path and the visit order of each search as packed indices,
+ * which is enough to replay the search with a ReplaySolver
+ *
+ * Searches that have not been used for the longest are removed first,
+ * once the solutions take up more than the maximum number of bytes
+ * Counts hits and misses, and is safe to share between threads
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class SolveCache {
+    // Maximum size of a cache when none is given
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    // Estimated bytes of each entry beyond its arrays, the key, solution, arrays and map entry
+    private static final long ENTRY_OVERHEAD = 160;
+
+    /**
+     * Key of a search
+     * Two mazes with the same Trees have the same tree hash, whatever their traversal states
+     */
+    public record Key(long treeHash, int height, int width, int rangerIndex, int cabinIndex,
+                      SolverEngine.Strategy strategy) {
+        // Returns the key of a search of the maze from the ranger
+        public static Key of(MazeGrid maze, MazePanel.Coordinate2D rangerIndex, SolverEngine.Strategy strategy) {
+            return new Key(maze.getTreeHash(), maze.getHeight(), maze.getWidth(), maze.index(rangerIndex),
+                    maze.getCabinIndex(), strategy);
+        }
+    }
+
+    /**
+     * Finished search, with the path and visit order as packed indices
+     * The path is empty if no path was found
+     */
+    public record Solution(SolverEngine.Outcome outcome, int[] path, int[] visitOrder, int steps) {
+        // Returns the solution of a finished engine
+        public static Solution of(SolverEngine engine) {
+            if (!engine.isFinished())
+                throw new IllegalArgumentException("Search has not finished");
+
+            MazeGrid maze = engine.getMaze();
+            List<MazePanel.Coordinate2D> path = engine.getPath();
+            int[] pathIndices = new int[path.size()];
+            for (int i = 0; i < pathIndices.length; i++) {
+                pathIndices[i] = maze.index(path.get(i));
+            }
+
+            return new Solution(engine.getOutcome(), pathIndices, engine.getVisitOrderIndices(), engine.getSteps());
+        }
+
+        // Returns the estimated number of bytes a finished engine would take up in a cache
+        // Found without building the solution, so large searches can be skipped
+        public static long estimateBytes(SolverEngine engine) {
+            return ENTRY_OVERHEAD + 4L * (engine.getPathLength() + engine.getVisitedCount());
+        }
+
+        // Number of blocks on the path, including the start and cabin
+        public int pathLength() {
+            return path.length;
+        }
+
+        // Number of Trails visited during the search
+        public int visitedCount() {
+            return visitOrder.length;
+        }
+
+        // Returns the estimated number of bytes the solution takes up in a cache
+        public long bytes() {
+            return ENTRY_OVERHEAD + 4L * (path.length + visitOrder.length);
+        }
+
+        // Returns the solution as the result of a search of the maze
+        public SolverEngine.Result toResult(MazeGrid maze) {
+            return new SolverEngine.Result(outcome, toCoordinates(maze, path), toCoordinates(maze, visitOrder), steps);
+        }
+
+        // Turns packed indices into coordinates of the maze
+        private static List<MazePanel.Coordinate2D> toCoordinates(MazeGrid maze, int[] indices) {
+            ArrayList<MazePanel.Coordinate2D> coordinates = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                coordinates.add(maze.getCoordinate(index));
+            }
+
+            return coordinates;
+        }
+    }
+
+    // Solutions in order of use, from the least recently used
+    private final LinkedHashMap<Key, Solution> solutions;
+
+    // Maximum and current estimated size of the solutions in bytes
+    private final long maxBytes;
+    private long bytes;
+
+    // Number of lookups that found a solution, and that did not
+    private long hits;
+    private long misses;
+
+    // Constructor with the default maximum size
+    public SolveCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    // Constructor with the maximum estimated size of the solutions in bytes
+    public SolveCache(long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("Maximum size must be positive");
+
+        this.maxBytes = maxBytes;
+
+        // Access order moves every solution that is looked up to the end
+        solutions = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // Returns the solution of a search, or null if it is not cached
+    // Counts a hit or a miss
+    public synchronized Solution get(Key key) {
+        Solution solution = solutions.get(key);
+
+        if (solution == null)
+            misses++;
+
+        else hits++;
+
+        return solution;
+    }
+
+    // Returns if a solution of the given size can be cached
+    public boolean fits(long solutionBytes) {
+        return solutionBytes <= maxBytes;
+    }
+
+    // Caches the solution of a search, replacing any solution with the same key
+    // Removes the least recently used solutions until the cache is small enough again
+    // Solutions larger than the whole cache are not cached
+    public synchronized void put(Key key, Solution solution) {
+        if (!fits(solution.bytes()))
+            return;
+
+        Solution old = solutions.put(key, solution);
+        if (old != null)
+            bytes -= old.bytes();
+
+        bytes += solution.bytes();
+
+        Iterator<Map.Entry<Key, Solution>> iterator = solutions.entrySet().iterator();
+        while (bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().getValue().bytes();
+            iterator.remove();
+        }
+    }
+
+    // Removes every solution, keeping the counts of hits and misses
+    public synchronized void clear() {
+        solutions.clear();
+        bytes = 0;
+    }
+
+    /* Getters for the size of the cache and the counts of lookups */
+    public synchronized int size() {
+        return solutions.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
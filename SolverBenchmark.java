@@ -0,0 +1,156 @@
+import java.lang.management.ManagementFactory;
+
+/**
+ * Command line benchmark for the solver engines
+ * Compares Jump Point Search against A* on the same open fields of Trees
+ * Prints the number of explored blocks and the time taken by each strategy
+ * Setup is the time to create the engine, search is the time spent in solve()
+ *
+ * Also checks that stepping Depth First Search allocates nothing once warmed up
+ * Exits with status 1 if it does
+ *
+ * The check measures full searches on fresh copies, after warming up with the same measuring code
+ * Without the warm up the JIT compiles a step before any search has ended, and the first search to end
+ * throws that code away, and compiling the measuring loop while it runs also allocates
+ * Both allocate a few hundred bytes once rather than on every step, so they are kept out of the measurement
+ *
+ * Usage: java SolverBenchmark [size] [tree density] [runs] [seed]
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public class SolverBenchmark {
+    // Default settings when no arguments are given
+    private static final int DEFAULT_SIZE = 1000;
+    private static final double DEFAULT_DENSITY = 0.1;
+    private static final int DEFAULT_RUNS = 5;
+    private static final long DEFAULT_SEED = 42;
+
+    // Number of times the allocation of depth first search is measured and thrown away to warm up
+    private static final int WARM_UP_ROUNDS = 3;
+
+    // Least number of depth first search steps in each measurement, over as many full searches as it takes
+    // Searches that end quickly need many more searches to take enough steps for the JIT
+    private static final int MEASURED_STEPS = 1_000_000;
+
+    // Strategies that are compared
+    private static final SolverEngine.Strategy[] STRATEGIES = {
+            SolverEngine.Strategy.A_STAR, SolverEngine.Strategy.JUMP_POINT
+    };
+
+    // Runs the benchmark
+    public static void main(String[] args) {
+        // Reads the settings, using the defaults for any that are missing
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        double density = args.length > 1 ? Double.parseDouble(args[1]) : DEFAULT_DENSITY;
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RUNS;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+
+        MazeGrid maze = createField(size, density, seed);
+        MazePanel.Coordinate2D start = new MazePanel.Coordinate2D(0, 0);
+
+        System.out.printf("%dx%d field, %.0f%% trees, best of %d runs%n", size, size, density * 100, runs);
+        System.out.printf("%-20s %12s %12s %12s %12s%n",
+                "Strategy", "Path length", "Explored", "Setup (ms)", "Search (ms)");
+
+        for (SolverEngine.Strategy strategy : STRATEGIES) {
+            SolverEngine.Result result = null;
+            long bestSetup = Long.MAX_VALUE;
+            long bestSearch = Long.MAX_VALUE;
+
+            // One extra run first to warm up the JIT
+            for (int i = 0; i <= runs; i++) {
+                // Every run searches its own copy, since engines update traversal states
+                MazeGrid copy = maze.copy();
+
+                long startTime = System.nanoTime();
+                SolverEngine engine = strategy.create(copy, start);
+                long setupTime = System.nanoTime() - startTime;
+
+                startTime = System.nanoTime();
+                result = engine.solve();
+                long searchTime = System.nanoTime() - startTime;
+
+                if (i > 0) {
+                    bestSetup = Math.min(bestSetup, setupTime);
+                    bestSearch = Math.min(bestSearch, searchTime);
+                }
+            }
+
+            System.out.printf("%-20s %12d %12d %12.2f %12.2f%n", strategy.getDisplayName(),
+                    result.pathLength(), result.visitedCount(), bestSetup / 1e6, bestSearch / 1e6);
+        }
+
+        // Fails the benchmark if the depth first search allocates while stepping
+        if (!checkDepthFirstAllocation(maze, start))
+            System.exit(1);
+    }
+
+    // Measures the bytes allocated by the thread while stepping a depth first search
+    // Returns true if no bytes were allocated after warming up
+    private static boolean checkDepthFirstAllocation(MazeGrid maze, MazePanel.Coordinate2D start) {
+        // Thread allocation counters are only available on HotSpot based JVMs
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            System.out.println("Depth first allocation check skipped, not supported by this JVM");
+            return true;
+        }
+
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        // Measures several times first, so every step and the measuring loop are compiled
+        // with every branch they can take, including the end of a search
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            measureAllocation(maze, start, threads, threadId);
+        }
+
+        Allocation allocation = measureAllocation(maze, start, threads, threadId);
+
+        System.out.printf("Depth first allocation: %d bytes over %d steps (%.3f bytes per step)%n",
+                allocation.bytes(), allocation.steps(), (double) allocation.bytes() / allocation.steps());
+
+        return allocation.bytes() == 0;
+    }
+
+    // Bytes allocated over a number of steps
+    private record Allocation(long bytes, long steps) {}
+
+    // Measures the bytes allocated while stepping full depth first searches, until enough steps have been taken
+    // Only the steps are measured, not creating the copies and engines between them
+    private static Allocation measureAllocation(MazeGrid maze, MazePanel.Coordinate2D start,
+                                                com.sun.management.ThreadMXBean threads, long threadId) {
+        long allocated = 0;
+        long steps = 0;
+
+        while (steps < MEASURED_STEPS) {
+            DepthFirstSolver engine = createWritableSolver(maze, start);
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+
+            while (!engine.isFinished()) {
+                engine.step();
+                steps++;
+            }
+
+            allocated += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+
+        return new Allocation(allocated, steps);
+    }
+
+    // Creates a depth first search of a new copy of the maze
+    // The copy owns every chunk first, so copying chunks on write is not counted
+    private static DepthFirstSolver createWritableSolver(MazeGrid maze, MazePanel.Coordinate2D start) {
+        MazeGrid copy = maze.copy();
+        copy.ensureWritable();
+
+        return new DepthFirstSolver(copy, start);
+    }
+
+    // Creates a square field with randomly placed Trees
+    // The ranger is in the top left and the cabin in the bottom right
+    // Also used by the other benchmarks
+    static MazeGrid createField(int size, double density, long seed) {
+        return new RandomFieldGenerator(seed, density).generate(size, size);
+    }
+}
@@ -0,0 +1,294 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Headless engine for solving a MazeGrid
+ * Does not use any GUI components or timers
+ * Updates the traversal states of the grid it is given as it searches
+ *
+ * Can be stepped one tick at a time so a panel can animate it,
+ * or run to completion at full speed with solve()
+ * Subclasses decide the search strategy used for each step
+ *
+ * Blocks are tracked by packed index, so stepping does not allocate once set up
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public abstract class SolverEngine {
+    // Enum of the possible outcomes of a search
+    public enum Outcome {SEARCHING, PATH_FOUND, NO_PATH_FOUND}
+
+    // Enum of the search strategies that can be used to solve a maze
+    public enum Strategy {
+        DEPTH_FIRST("Depth First Search"),
+        BREADTH_FIRST("Breadth First Search"),
+        A_STAR("A* Search"),
+        JUMP_POINT("Jump Point Search"),
+        BIDIRECTIONAL("Bidirectional Search"),
+        DISTANCE_FIELD("Distance Field");
+
+        // Name of the strategy shown to the user
+        private final String displayName;
+
+        // Saves display name
+        Strategy(String displayName) {
+            this.displayName = displayName;
+        }
+
+        // Getter for display name
+        public String getDisplayName() {
+            return displayName;
+        }
+
+        // Creates an engine that uses this strategy
+        public SolverEngine create(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+            return switch (this) {
+                case DEPTH_FIRST -> new DepthFirstSolver(maze, startIndex);
+                case BREADTH_FIRST -> new BreadthFirstSolver(maze, startIndex);
+                case A_STAR -> new AStarSolver(maze, startIndex);
+                case JUMP_POINT -> new JumpPointSolver(maze, startIndex);
+                case BIDIRECTIONAL -> new BidirectionalSolver(maze, startIndex);
+                case DISTANCE_FIELD -> new DistanceFieldSolver(maze, startIndex);
+            };
+        }
+    }
+
+    // Record of the results of a finished search
+    public record Result(Outcome outcome, List<MazePanel.Coordinate2D> path,
+                         List<MazePanel.Coordinate2D> visitOrder, int steps) {
+        // Number of blocks on the path, including the start and cabin
+        public int pathLength() {
+            return path.size();
+        }
+
+        // Number of Trails visited during the search
+        public int visitedCount() {
+            return visitOrder.size();
+        }
+    }
+
+    // The default direction of the ranger is south
+    public static final MazePanel.Directions DEFAULT_DIRECTION = MazePanel.Directions.SOUTH;
+
+    // Every direction the ranger can move in, in the order they are tried
+    protected static final MazePanel.Directions[] DIRECTIONS = MazePanel.Directions.values();
+
+    // Returned by step() when no Trail changed state
+    public static final int NO_CHANGE = -1;
+
+    // Maze being searched
+    protected final MazeGrid maze;
+
+    // Starting location of the Ranger
+    protected final MazePanel.Coordinate2D startIndex;
+
+    // Direction that the Ranger is currently facing
+    protected MazePanel.Directions currentDirection;
+
+    // Packed index of every Trail in the order it was first visited
+    // Sized for every Trail up front, so visiting never allocates
+    private int[] visitOrder;
+    private int visitedCount;
+
+    // Told the packed index of every Trail that changes state, null if nothing is listening
+    private IntConsumer stateListener;
+
+    // Current outcome of the search
+    private Outcome outcome;
+
+    // Number of steps taken so far
+    private int steps;
+
+    // Constructor
+    public SolverEngine(MazeGrid maze, MazePanel.Coordinate2D startIndex) {
+        // Throws exception given a null maze or start
+        if (maze == null)
+            throw new IllegalArgumentException("Maze cannot be null");
+        if (startIndex == null)
+            throw new IllegalArgumentException("Start index cannot be null");
+
+        // Start index must be inside the maze
+        if (!maze.contains(startIndex.x(), startIndex.y()))
+            throw new IllegalArgumentException("Start index out of bounds");
+
+        this.maze = maze;
+        this.startIndex = startIndex;
+
+        // Facing default direction to start purely for design
+        currentDirection = DEFAULT_DIRECTION;
+
+        visitOrder = new int[maze.getTrailCount()];
+        outcome = Outcome.SEARCHING;
+    }
+
+    // Takes one step of the search
+    // Returns the packed index of the Trail whose state changed, or NO_CHANGE
+    public int step() {
+        // A finished search cannot be stepped
+        if (isFinished())
+            throw new IllegalStateException("Search has already finished");
+
+        steps++;
+        return nextStep();
+    }
+
+    // Runs the search to completion and returns the result
+    public Result solve() {
+        while (!isFinished()) {
+            step();
+        }
+
+        return getResult();
+    }
+
+    // Returns the result of the search so far
+    public Result getResult() {
+        return new Result(outcome, getPath(), getVisitOrder(), steps);
+    }
+
+    // Returns every visited Trail in the order it was first visited
+    public List<MazePanel.Coordinate2D> getVisitOrder() {
+        ArrayList<MazePanel.Coordinate2D> coordinates = new ArrayList<>(visitedCount);
+        for (int i = 0; i < visitedCount; i++) {
+            coordinates.add(maze.getCoordinate(visitOrder[i]));
+        }
+
+        return coordinates;
+    }
+
+    // Returns the packed index of every visited Trail in the order it was first visited
+    // Cheaper than getVisitOrder, since no coordinates are created
+    public int[] getVisitOrderIndices() {
+        return Arrays.copyOf(visitOrder, visitedCount);
+    }
+
+    // Does the strategy specific work of one step
+    // Returns the packed index of the Trail whose state changed, or NO_CHANGE
+    protected abstract int nextStep();
+
+    // Returns the path from the start to the cabin
+    // Empty if no path has been found
+    public abstract List<MazePanel.Coordinate2D> getPath();
+
+    // Returns the current location of the ranger
+    public abstract MazePanel.Coordinate2D getRangerIndex();
+
+    // Changes the traversal state of a Trail and tells the state listener
+    // Subclasses use this instead of changing the maze directly
+    protected void setState(int index, Trail.TraversalState state) {
+        maze.setState(index, state);
+
+        if (stateListener != null)
+            stateListener.accept(index);
+    }
+
+    // Setter for the state listener, null to stop listening
+    // Lets a panel redraw only the Trails that changed
+    public void setStateListener(IntConsumer stateListener) {
+        this.stateListener = stateListener;
+    }
+
+    // Saves the first visit of a Trail
+    protected void visit(int index) {
+        // Only grows if a strategy visits a Trail more than once
+        if (visitedCount == visitOrder.length)
+            visitOrder = Arrays.copyOf(visitOrder, Math.max(visitOrder.length * 2, 1));
+
+        visitOrder[visitedCount++] = index;
+    }
+
+    // Ends the search with the given outcome
+    protected void finish(boolean pathFound) {
+        outcome = pathFound ? Outcome.PATH_FOUND : Outcome.NO_PATH_FOUND;
+    }
+
+    // Follows an array of parents back from a block to the start
+    // The start must be the only block that is its own parent
+    protected List<MazePanel.Coordinate2D> tracePath(int[] parents, int end) {
+        ArrayList<MazePanel.Coordinate2D> path = new ArrayList<>();
+        int index = end;
+
+        while (parents[index] != index) {
+            path.add(maze.getCoordinate(index));
+            index = parents[index];
+        }
+        path.add(maze.getCoordinate(index));
+
+        // The path was built backwards
+        Collections.reverse(path);
+        return path;
+    }
+
+    // Returns the number of blocks on the path that tracePath would build
+    protected static int tracePathLength(int[] parents, int end) {
+        int length = 1;
+        for (int index = end; parents[index] != index; index = parents[index]) {
+            length++;
+        }
+
+        return length;
+    }
+
+    // Returns the discovered state that shows a move in the given direction
+    protected static Trail.TraversalState discoveredState(MazePanel.Directions direction) {
+        return switch (direction) {
+            case NORTH -> Trail.TraversalState.DISCOVERED_N;
+            case EAST -> Trail.TraversalState.DISCOVERED_E;
+            case SOUTH -> Trail.TraversalState.DISCOVERED_S;
+            case WEST -> Trail.TraversalState.DISCOVERED_W;
+        };
+    }
+
+    // Returns the direction of a move between two neighbouring blocks
+    // Returns the default direction if they are not neighbours
+    protected MazePanel.Directions directionBetween(int from, int to) {
+        int dx = maze.getX(to) - maze.getX(from);
+        int dy = maze.getY(to) - maze.getY(from);
+
+        for (MazePanel.Directions direction : DIRECTIONS) {
+            if (direction.getMove().x() == dx && direction.getMove().y() == dy)
+                return direction;
+        }
+
+        return DEFAULT_DIRECTION;
+    }
+
+    /* Getters for the state of the search */
+    public boolean isFinished() {
+        return outcome != Outcome.SEARCHING;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public MazePanel.Directions getDirection() {
+        return currentDirection;
+    }
+
+    public MazeGrid getMaze() {
+        return maze;
+    }
+
+    public MazePanel.Coordinate2D getStartIndex() {
+        return startIndex;
+    }
+
+    public int getSteps() {
+        return steps;
+    }
+
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    // Returns the number of blocks on the path, including the start and cabin
+    // Engines override this to count the path without building it
+    public int getPathLength() {
+        return getPath().size();
+    }
+}
@@ -0,0 +1,248 @@
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generates very large mazes on many threads by splitting them into tiles
+ * Each tile is a small maze made by a MazeGenerator, and the tiles are generated in parallel on a ForkJoinPool
+ *
+ * Tiles are separated by a line of Trees, on the walls between cells
+ * Once every tile is finished, one wall is carved between neighbouring tiles,
+ * but only for the tiles joined by a random spanning tree of the tiles
+ * Since every tile is a perfect maze, the whole maze is still a perfect maze,
+ * so there is always exactly one path from the ranger to the cabin
+ *
+ * Only generators of perfect mazes can be tiled
+ * Tiles of a random field would not be joined by any path, so the cabin could be cut off from the ranger
+ *
+ * Every tile gets its own seed, drawn from the seed of the generator in the order of the tiles
+ * Tiles are the same size whatever the number of threads, so a seed always gives the same maze
+ * It is not the same maze the generator makes on its own
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class TiledMazeGenerator {
+    // Width and height of a tile in blocks
+    // Even, so every tile starts on a cell
+    public static final int TILE_SIZE = 1024;
+
+    // Generator used for every tile
+    private final MazeGenerator generator;
+
+    // Pool the tiles are generated on
+    private final ForkJoinPool pool;
+
+    // Constructor using the common pool
+    public TiledMazeGenerator(MazeGenerator generator) {
+        this(generator, ForkJoinPool.commonPool());
+    }
+
+    // Constructor with the pool to generate on
+    public TiledMazeGenerator(MazeGenerator generator, ForkJoinPool pool) {
+        if (generator == null)
+            throw new IllegalArgumentException("Generator cannot be null");
+        if (pool == null)
+            throw new IllegalArgumentException("Pool cannot be null");
+        if (!generator.isPerfect())
+            throw new IllegalArgumentException("Only generators of perfect mazes can be tiled");
+
+        this.generator = generator;
+        this.pool = pool;
+    }
+
+    // Generates a maze
+    // Every call starts again from the seed, so gives the same maze
+    public MazeGrid generate(int height, int width) {
+        // Dimensions must be positive and small enough to pack into an int
+        if (height <= 0 || width <= 0)
+            throw new IllegalArgumentException("Maze dimensions must be positive");
+        if ((long) height * width > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Maze is too large");
+
+        int tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+
+        // Seeds are drawn before any tile is generated, so they do not depend on the order tiles finish in
+        SplittableRandom random = new SplittableRandom(generator.getSeed());
+        long[] tileSeeds = new long[tilesX * tilesY];
+        for (int tile = 0; tile < tileSeeds.length; tile++) {
+            tileSeeds[tile] = random.nextLong();
+        }
+
+        long[][] tileTrees = new long[tileSeeds.length][];
+        pool.invoke(new TileTask(0, tileSeeds.length, height, width, tilesX, tileSeeds, tileTrees));
+
+        // Copies every tile into one bitset of Trees
+        // The maze starts full of Trees, so the lines between tiles are left as Trees
+        long[] trees = new long[(int) (((long) height * width + 63) >>> 6)];
+        Arrays.fill(trees, -1L);
+
+        for (int tile = 0; tile < tileTrees.length; tile++) {
+            int startX = tile % tilesX * TILE_SIZE;
+            int startY = tile / tilesX * TILE_SIZE;
+            int tileWidth = getTileSize(width, startX);
+            int tileHeight = getTileSize(height, startY);
+
+            for (int y = 0; y < tileHeight; y++) {
+                copyBits(tileTrees[tile], (long) y * tileWidth, trees, (long) (startY + y) * width + startX, tileWidth);
+            }
+
+            // Drops the tile so it can be garbage collected
+            tileTrees[tile] = null;
+        }
+
+        MazeGrid maze = new MazeGrid(height, width, trees);
+        joinTiles(maze, tilesX, tilesY, random);
+
+        generator.placeRangerAndCabin(maze);
+        return maze;
+    }
+
+    // Returns the number of blocks across or down a tile that starts at the given block
+    // Tiles leave room for the line of Trees after them
+    private static int getTileSize(int blocks, int start) {
+        return Math.min(TILE_SIZE - 1, blocks - start);
+    }
+
+    // Task that generates a range of tiles, splitting it in half until there is one tile left
+    private final class TileTask extends RecursiveAction {
+        private final int firstTile;
+        private final int endTile;
+        private final int height;
+        private final int width;
+        private final int tilesX;
+        private final long[] tileSeeds;
+        private final long[][] tileTrees;
+
+        TileTask(int firstTile, int endTile, int height, int width, int tilesX, long[] tileSeeds, long[][] tileTrees) {
+            this.firstTile = firstTile;
+            this.endTile = endTile;
+            this.height = height;
+            this.width = width;
+            this.tilesX = tilesX;
+            this.tileSeeds = tileSeeds;
+            this.tileTrees = tileTrees;
+        }
+
+        @Override
+        protected void compute() {
+            if (endTile - firstTile == 1) {
+                int tileWidth = getTileSize(width, firstTile % tilesX * TILE_SIZE);
+                int tileHeight = getTileSize(height, firstTile / tilesX * TILE_SIZE);
+
+                // Each tile is generated as a maze of its own, which only this task can see
+                MazeGrid tile = new MazeGrid(tileHeight, tileWidth);
+                generator.generate(tile, new SplittableRandom(tileSeeds[firstTile]));
+                tileTrees[firstTile] = tile.getTreeBits();
+                return;
+            }
+
+            int middle = (firstTile + endTile) >>> 1;
+            invokeAll(new TileTask(firstTile, middle, height, width, tilesX, tileSeeds, tileTrees),
+                    new TileTask(middle, endTile, height, width, tilesX, tileSeeds, tileTrees));
+        }
+    }
+
+    // Carves one wall between the tiles joined by a random spanning tree
+    // The tree is found with a randomized Kruskal's algorithm over the tiles
+    private static void joinTiles(MazeGrid maze, int tilesX, int tilesY, SplittableRandom random) {
+        // Borders are numbered, the borders to the right of each tile first and then the borders below
+        int rightBorders = (tilesX - 1) * tilesY;
+        int[] borders = new int[rightBorders + tilesX * (tilesY - 1)];
+        for (int i = 0; i < borders.length; i++) {
+            borders[i] = i;
+        }
+
+        // Shuffles the borders
+        for (int i = borders.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int border = borders[i];
+            borders[i] = borders[j];
+            borders[j] = border;
+        }
+
+        // Every tile starts in a set of its own
+        int[] parents = new int[tilesX * tilesY];
+        for (int tile = 0; tile < parents.length; tile++) {
+            parents[tile] = tile;
+        }
+
+        for (int border : borders) {
+            // Finds the tiles on either side of the border
+            boolean right = border < rightBorders;
+            int first;
+            int second;
+            if (right) {
+                first = border / (tilesX - 1) * tilesX + border % (tilesX - 1);
+                second = first + 1;
+            }
+
+            else {
+                first = border - rightBorders;
+                second = first + tilesX;
+            }
+
+            int firstRoot = find(parents, first);
+            int secondRoot = find(parents, second);
+            if (firstRoot == secondRoot) continue;
+
+            parents[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot);
+
+            // Carves the line of Trees next to a random cell along the border
+            int startX = first % tilesX * TILE_SIZE;
+            int startY = first / tilesX * TILE_SIZE;
+
+            if (right) {
+                int cells = MazeGenerator.cellCount(getTileSize(maze.getHeight(), startY));
+                maze.setTree(startX + TILE_SIZE - 1, startY + random.nextInt(cells) * 2, false);
+            }
+
+            else {
+                int cells = MazeGenerator.cellCount(getTileSize(maze.getWidth(), startX));
+                maze.setTree(startX + random.nextInt(cells) * 2, startY + TILE_SIZE - 1, false);
+            }
+        }
+    }
+
+    // Returns the root tile of the set a tile is in
+    // Halves the path to the root as it goes
+    private static int find(int[] parents, int tile) {
+        while (parents[tile] != tile) {
+            parents[tile] = parents[parents[tile]];
+            tile = parents[tile];
+        }
+
+        return tile;
+    }
+
+    // Copies a run of bits from one bitset to another
+    // Copies up to 64 bits at a time rather than one bit at a time
+    private static void copyBits(long[] source, long sourceStart, long[] target, long targetStart, int length) {
+        while (length > 0) {
+            int count = Math.min(64, length);
+            long mask = count == 64 ? -1L : (1L << count) - 1;
+
+            // Reads the bits, which may be split over two words
+            int word = (int) (sourceStart >>> 6);
+            int offset = (int) (sourceStart & 63);
+            long bits = source[word] >>> offset;
+            if (offset != 0 && offset + count > 64)
+                bits |= source[word + 1] << (64 - offset);
+
+            bits &= mask;
+
+            // Writes the bits, which may also be split over two words
+            word = (int) (targetStart >>> 6);
+            offset = (int) (targetStart & 63);
+            target[word] = (target[word] & ~(mask << offset)) | (bits << offset);
+            if (offset != 0 && offset + count > 64)
+                target[word + 1] = (target[word + 1] & ~(mask >>> (64 - offset))) | (bits >>> (64 - offset));
+
+            sourceStart += count;
+            targetStart += count;
+            length -= count;
+        }
+    }
+}
@@ -23,6 +23,9 @@ public class Trail extends PathBlock
         EXPLORED("States/explored.png", Color.RED),
         CABIN("States/cabin.png", Color.BLACK);
 
+        // Every state in order, values() would create a new array on each call
+        private static final TraversalState[] VALUES = values();
+
         // File path of the image
         private final String filepath;
 
@@ -43,6 +46,23 @@ public class Trail extends PathBlock
         public Color getDefaultColour() {
             return defaultColour;
         }
+
+        // Returns the state that follows this one during traversal
+        public TraversalState next() {
+            // A cabin will stay a cabin, it is a special state
+            // that is not used for searching
+            if (this == CABIN) {
+                return this;
+            }
+
+            // There is no state after a fully explored Trail
+            if (this == EXPLORED) {
+                throw new IllegalStateException("Cannot get the next state of an explored Trail.");
+            }
+
+            // Ordinal of the new state will be one higher than the old one
+            return VALUES[ordinal() + 1];
+        }
     }
 
     // The traversal state of this block
@@ -63,22 +83,13 @@ public class Trail extends PathBlock
     // Updates traversalState to the next state
     // Then returns the new traversalState
     public TraversalState nextState() {
-        // A cabin will stay a cabin, it is a special state
-        // that is not used for searching
+        // A cabin will stay a cabin, so nothing needs to be updated
         if (traversalState == TraversalState.CABIN) {
             return traversalState;
         }
 
-        // This method should never be called on a fully explored Trail
-        if (traversalState == TraversalState.EXPLORED) {
-            throw new IllegalStateException("Cannot get the next state of an explored Trail.");
-        }
-
-        // Ordinal of the new state will be one higher than the old one
-        int newIndex = traversalState.ordinal() + 1;
-
-        // Updates traversalState to the state at the new ordinal
-        traversalState = TraversalState.values()[newIndex];
+        // Updates traversalState to the following state
+        traversalState = traversalState.next();
 
         // Updates Icon and default colour to the icon of the new state
         updateIcon(traversalState.getFilePath(), traversalState.getDefaultColour());
@@ -0,0 +1,159 @@
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Workloads measured by the JMH benchmarks
+ * JMH needs benchmarks to be in a package, but the maze classes are in the default package,
+ * which classes in a package cannot use
+ * So each workload is set up here and handed to the benchmarks as a standard functional interface,
+ * which they find by name once before measuring
+ *
+ * Every maze is an open field of Trees from SolverBenchmark.createField,
+ * with the ranger in the top left and the cabin in the bottom right
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+public final class BenchmarkWorkloads {
+    // Only has static methods
+    private BenchmarkWorkloads() {}
+
+    // Returns one step of a Depth First Search for every call
+    // A new search is started on a fresh copy whenever the last one finishes
+    // Copies own every chunk first, so the measured steps never copy a chunk on write
+    public static IntSupplier depthFirstStep(int size, double density, long seed) {
+        MazeGrid maze = SolverBenchmark.createField(size, density, seed);
+        MazePanel.Coordinate2D start = new MazePanel.Coordinate2D(0, 0);
+
+        return new IntSupplier() {
+            private SolverEngine engine = newEngine();
+
+            private SolverEngine newEngine() {
+                MazeGrid copy = maze.copy();
+                copy.ensureWritable();
+                return new DepthFirstSolver(copy, start);
+            }
+
+            @Override
+            public int getAsInt() {
+                if (engine.isFinished())
+                    engine = newEngine();
+
+                return engine.step();
+            }
+        };
+    }
+
+    // Returns a full search of a copy of the maze for every call, giving the path length
+    // Engines are stepped to the end without building the lists of a Result, like the batch solver
+    public static IntSupplier solve(String strategy, int size, double density, long seed) {
+        MazeGrid maze = SolverBenchmark.createField(size, density, seed);
+        SolverEngine.Strategy chosenStrategy = SolverEngine.Strategy.valueOf(strategy);
+        MazePanel.Coordinate2D start = new MazePanel.Coordinate2D(0, 0);
+
+        return () -> {
+            SolverEngine engine = chosenStrategy.create(maze.copy(), start);
+            while (!engine.isFinished()) {
+                engine.step();
+            }
+
+            return engine.getPathLength();
+        };
+    }
+
+    // Writes a maze to a temporary file with the given extension, .txt or .pfm
+    // Returns the file, which is deleted when the JVM exits
+    public static File createMazeFile(int size, double density, long seed, String extension) {
+        try {
+            File mazeFile = Files.createTempFile("maze", extension).toFile();
+            mazeFile.deleteOnExit();
+
+            MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+            fileHandler.setMaze(SolverBenchmark.createField(size, density, seed));
+            fileHandler.writeMaze(mazeFile);
+
+            return mazeFile;
+        }
+
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Returns a read of the maze file for every call, giving the number of blocks read
+    public static IntSupplier readMaze(File mazeFile) {
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+
+        return () -> {
+            try {
+                fileHandler.readMaze(mazeFile);
+                return fileHandler.getMazeHeight() * fileHandler.getMazeWidth();
+            }
+
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    // Returns a write of the maze to the file for every call, giving the number of blocks written
+    // The file is chosen as text or binary by its extension
+    public static IntSupplier writeMaze(File mazeFile, int size, double density, long seed) {
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+        fileHandler.setMaze(SolverBenchmark.createField(size, density, seed));
+
+        return () -> {
+            try {
+                fileHandler.writeMaze(mazeFile);
+                return size * size;
+            }
+
+            catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    // Returns the copy of the maze handed out by the file handler for every call
+    // Writing to a block of the copy also copies the chunk it is in
+    public static Supplier<Object> getMaze(int size, double density, long seed, boolean write) {
+        MazeFileHandler fileHandler = new MazeFileHandler(1, 1);
+        fileHandler.setMaze(SolverBenchmark.createField(size, density, seed));
+
+        return () -> {
+            MazeGrid maze = fileHandler.getMaze();
+            if (write)
+                maze.setState(0, Trail.TraversalState.EXPLORED);
+
+            return maze;
+        };
+    }
+
+    // Returns a paint of a whole PathFinder panel onto an offscreen image for every call
+    // Gives a pixel of the image, so the paint cannot be skipped
+    public static IntSupplier paint(int size, double density, long seed, int panelSize) {
+        PathFinder panel = new PathFinder(panelSize, panelSize, SolverBenchmark.createField(size, density, seed));
+        panel.setSize(panel.getPreferredSize());
+
+        BufferedImage image = new BufferedImage(panel.getWidth(), panel.getHeight(), BufferedImage.TYPE_INT_RGB);
+
+        return () -> {
+            Graphics2D graphics = image.createGraphics();
+            try {
+                panel.paintComponent(graphics);
+            }
+
+            finally {
+                graphics.dispose();
+            }
+
+            return image.getRGB(image.getWidth() / 2, image.getHeight() / 2);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package benchmarks;
+
+/**
+ * Settings shared by every benchmark
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+final class BenchmarkSettings {
+    // Seed of every random maze, so every run measures the same mazes
+    static final long SEED = 42;
+
+    // Only has constants
+    private BenchmarkSettings() {}
+}
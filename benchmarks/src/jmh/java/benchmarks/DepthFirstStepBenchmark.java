@@ -0,0 +1,43 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Number of Depth First Search steps taken per microsecond
+ * This is the work done by every tick of the PathFinder timer
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DepthFirstStepBenchmark {
+    @Param({"1000"})
+    public int size;
+
+    @Param({"0.1", "0.3"})
+    public double density;
+
+    private IntSupplier step;
+
+    @Setup
+    public void setUp() {
+        step = Workloads.get("depthFirstStep", size, density, BenchmarkSettings.SEED);
+    }
+
+    @Benchmark
+    public int step() {
+        return step.getAsInt();
+    }
+}
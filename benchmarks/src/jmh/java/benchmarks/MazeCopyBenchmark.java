@@ -0,0 +1,43 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Time to get a copy of the maze from MazeFileHandler, which happens on every reset of the PathFinder
+ * With write set, one block of the copy is also written, which copies the chunk it is in
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MazeCopyBenchmark {
+    @Param({"100", "1000", "5000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean write;
+
+    private Supplier<Object> getMaze;
+
+    @Setup
+    public void setUp() {
+        getMaze = Workloads.get("getMaze", size, 0.1, BenchmarkSettings.SEED, write);
+    }
+
+    @Benchmark
+    public Object getMaze() {
+        return getMaze.get();
+    }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Time to read and write maze files in the text and binary formats
+ * Reads go through MazeFileHandler.readMaze, which memory maps big files
+ * Writes go through MazeFileHandler.writeMaze, including the atomic replace of the file
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MazeFileBenchmark {
+    @Param({".txt", ".pfm"})
+    public String extension;
+
+    @Param({"1000", "5000"})
+    public int size;
+
+    @Param({"0.1"})
+    public double density;
+
+    private IntSupplier read;
+    private IntSupplier write;
+
+    @Setup
+    public void setUp() {
+        File readFile = Workloads.get("createMazeFile", size, density, BenchmarkSettings.SEED, extension);
+        File writeFile = Workloads.get("createMazeFile", size, density, BenchmarkSettings.SEED, extension);
+
+        read = Workloads.get("readMaze", readFile);
+        write = Workloads.get("writeMaze", writeFile, size, density, BenchmarkSettings.SEED);
+    }
+
+    @Benchmark
+    public int readMaze() {
+        return read.getAsInt();
+    }
+
+    @Benchmark
+    public int writeMaze() {
+        return write.getAsInt();
+    }
+}
@@ -0,0 +1,43 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Time to paint a whole PathFinder panel onto an offscreen BufferedImage
+ * The cached layer of Trees is drawn on the first paint, so this measures the repaints after it
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PaintBenchmark {
+    @Param({"12", "50", "100"})
+    public int size;
+
+    @Param({"750"})
+    public int panelSize;
+
+    private IntSupplier paint;
+
+    @Setup
+    public void setUp() {
+        paint = Workloads.get("paint", size, 0.2, BenchmarkSettings.SEED, panelSize);
+    }
+
+    @Benchmark
+    public int paint() {
+        return paint.getAsInt();
+    }
+}
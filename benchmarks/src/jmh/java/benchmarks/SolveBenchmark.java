@@ -0,0 +1,46 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Time to solve a whole maze with each strategy, across maze sizes and Tree densities
+ * Includes copying the maze and creating the engine
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SolveBenchmark {
+    @Param({"DEPTH_FIRST", "BREADTH_FIRST", "A_STAR", "JUMP_POINT", "BIDIRECTIONAL"})
+    public String strategy;
+
+    @Param({"250", "1000"})
+    public int size;
+
+    @Param({"0.1", "0.3"})
+    public double density;
+
+    private IntSupplier solve;
+
+    @Setup
+    public void setUp() {
+        solve = Workloads.get("solve", strategy, size, density, BenchmarkSettings.SEED);
+    }
+
+    @Benchmark
+    public int solve() {
+        return solve.getAsInt();
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.StringJoiner;
+
+/**
+ * Finds the workloads set up by BenchmarkWorkloads
+ * It is in the default package with the maze classes, so it can only be reached by name
+ * Only used while setting up, the workloads themselves are called directly
+ * Methods are matched by name and the types of their arguments, so a workload that changes its parameters fails to set up
+ *
+ * @author Asif Rahman
+ * @version 17/10/2026
+ */
+final class Workloads {
+    // Only has static methods
+    private Workloads() {}
+
+    // Calls the static method of BenchmarkWorkloads with the name that takes the arguments
+    // Returns the workload it creates
+    @SuppressWarnings("unchecked")
+    static <T> T get(String name, Object... arguments) {
+        try {
+            Class<?> workloads = Class.forName("BenchmarkWorkloads");
+
+            for (Method method : workloads.getMethods()) {
+                if (method.getName().equals(name) && accepts(method, arguments))
+                    return (T) method.invoke(null, arguments);
+            }
+        }
+
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create workload " + name, e);
+        }
+
+        throw new IllegalArgumentException("No workload named " + name + " takes " + describe(arguments));
+    }
+
+    // Returns if the method is static and every argument has the type of its parameter
+    // Primitive parameters need an argument of their wrapper type, so an int is never passed as a long
+    private static boolean accepts(Method method, Object[] arguments) {
+        Class<?>[] parameters = method.getParameterTypes();
+        if (!Modifier.isStatic(method.getModifiers()) || parameters.length != arguments.length)
+            return false;
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (arguments[i] == null) {
+                if (parameters[i].isPrimitive())
+                    return false;
+            }
+
+            else if (!MethodType.methodType(parameters[i]).wrap().returnType().isInstance(arguments[i]))
+                return false;
+        }
+
+        return true;
+    }
+
+    // Returns the types of the arguments, for the error when no workload takes them
+    private static String describe(Object[] arguments) {
+        StringJoiner types = new StringJoiner(", ", "(", ")");
+        for (Object argument : arguments) {
+            types.add(argument == null ? "null" : argument.getClass().getSimpleName());
+        }
+
+        return types.toString();
+    }
+}